@@ -2,13 +2,16 @@ package tech.project.schedule.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Configuration class for application-wide beans and settings.
- * Defines common beans that can be used across the application.
+ * Defines common beans that can be used across the application
+ * and enables scheduled jobs, such as notification coalescing and digests.
  */
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
     /**
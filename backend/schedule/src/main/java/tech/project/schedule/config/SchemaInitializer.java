@@ -0,0 +1,335 @@
+package tech.project.schedule.config;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.project.schedule.model.enums.NotificationStatus;
+import tech.project.schedule.repositories.NotificationPartitionRepository;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Applies database adjustments that Hibernate's schema update cannot express.
+ * Runs once at startup after the schema has been updated; every statement is
+ * idempotent, so restarting the application is always safe. Data migrations that only
+ * need to happen once are recorded in {@code schema_migrations} and skipped on later
+ * startups. The partitioning of the
+ * notifications table commits on its own, so that a failure in another step does not
+ * roll it back and its table lock is released as soon as it is done.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchemaInitializer implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(SchemaInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationPartitionRepository partitionRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Executes the initialization statements.
+     *
+     * @param args The application arguments (unused)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            backfillCommentStats();
+            backfillUnfinishedDependencies();
+            migrateNotificationReadFlags();
+        });
+        transaction.executeWithoutResult(status -> partitionNotifications());
+        transaction.executeWithoutResult(status -> {
+            dropLegacyMessageConstraints();
+            backfillNotificationSequences();
+            createNotificationSequenceIndex();
+            createReadyTaskIndex();
+            createTaskPeriodIndex();
+            refreshNotificationStatusCheck();
+        });
+        runOnce(transaction, "backfill_unread_notification_counts", this::backfillUnreadNotificationCounts);
+    }
+
+    /**
+     * Runs a data migration in a transaction of its own unless it has been applied before.
+     * The migration is claimed by inserting its row into {@code schema_migrations}, so an instance
+     * starting at the same time waits for the claim to commit and then skips the migration.
+     *
+     * @param transaction Template of the transaction the migration runs in
+     * @param name Unique name of the migration
+     * @param migration The migration
+     */
+    private void runOnce(TransactionTemplate transaction, String name, Runnable migration) {
+        transaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute("""
+                    create table if not exists schema_migrations (
+                        name varchar(255) primary key,
+                        applied_at timestamp(6) not null default now()
+                    )
+                    """);
+            int claimed = jdbcTemplate.update(
+                    "insert into schema_migrations (name) values (?) on conflict (name) do nothing", name);
+            if (claimed > 0) {
+                migration.run();
+                log.info("Applied migration {}", name);
+            }
+        });
+    }
+
+    /**
+     * Brings the denormalized comment statistics of tasks in line with their comments.
+     * Only rows whose statistics differ are written, so after the first run this is a read-only scan.
+     */
+    private void backfillCommentStats() {
+        int updated = jdbcTemplate.update("""
+                update task t
+                set comment_count = coalesce(c.cnt, 0), last_comment_at = c.last_at
+                from task x
+                left join (select task_id, count(*) as cnt, max(created_at) as last_at
+                           from task_comments group by task_id) c on c.task_id = x.id
+                where t.id = x.id
+                  and (t.comment_count <> coalesce(c.cnt, 0) or t.last_comment_at is distinct from c.last_at)
+                """);
+        if (updated > 0) {
+            log.info("Backfilled comment statistics for {} tasks", updated);
+        }
+    }
+
+    /**
+     * Brings the unfinished prerequisite counters of tasks in line with their dependencies.
+     * Only rows whose counter differs are written.
+     */
+    private void backfillUnfinishedDependencies() {
+        int updated = jdbcTemplate.update("""
+                update task t
+                set unfinished_deps = coalesce(c.cnt, 0)
+                from task x
+                left join (select d.task_id, count(*) as cnt
+                           from task_dependencies d
+                           join task p on p.id = d.depends_on_task_id
+                           where p.status <> 'FINISHED'
+                           group by d.task_id) c on c.task_id = x.id
+                where t.id = x.id
+                  and t.unfinished_deps <> coalesce(c.cnt, 0)
+                """);
+        if (updated > 0) {
+            log.info("Backfilled unfinished dependency counters for {} tasks", updated);
+        }
+    }
+
+    /**
+     * Moves the read flags of notifications read before the watermark model into
+     * {@code notification_reads} and drops the old {@code is_read} column.
+     * Does nothing once the column is gone.
+     */
+    private void migrateNotificationReadFlags() {
+        Integer columns = jdbcTemplate.queryForObject("""
+                select count(*) from information_schema.columns
+                where table_schema = current_schema() and table_name = 'notifications' and column_name = 'is_read'
+                """, Integer.class);
+        if (columns == null || columns == 0) {
+            return;
+        }
+        int migrated = jdbcTemplate.update("""
+                insert into notification_reads (notification_id, user_id, notification_created_at)
+                select n.id, n.user_id, n.created_at from notifications n where n.is_read
+                on conflict (notification_id) do nothing
+                """);
+        jdbcTemplate.execute("alter table notifications drop column if exists is_read");
+        log.info("Migrated {} notification read flags", migrated);
+    }
+
+    /**
+     * Turns the notifications table Hibernate created into a table range-partitioned by month of
+     * {@code created_at}, moving existing rows into their monthly partitions. The primary key has to
+     * include the partition column, so it becomes (id, created_at). Does nothing once the table is
+     * partitioned; new partitions are then created ahead of time by the retention job.
+     *
+     * <p>Renaming the table locks it until the transaction commits, so writes to notifications wait
+     * for the whole copy; rows are copied one month at a time and every month is logged.</p>
+     */
+    private void partitionNotifications() {
+        if (partitionRepository.isPartitioned()) {
+            return;
+        }
+        jdbcTemplate.execute("alter table notifications rename to notifications_unpartitioned");
+        jdbcTemplate.execute("""
+                alter table notifications_unpartitioned
+                rename constraint notifications_pkey to notifications_unpartitioned_pkey
+                """);
+        jdbcTemplate.execute("drop index if exists idx_notifications_user_created");
+        jdbcTemplate.execute("""
+                create table notifications (like notifications_unpartitioned including defaults including constraints)
+                partition by range (created_at)
+                """);
+        jdbcTemplate.execute("alter table notifications alter column created_at set not null");
+        jdbcTemplate.execute("alter table notifications add constraint notifications_pkey primary key (id, created_at)");
+        jdbcTemplate.execute("""
+                alter table notifications add constraint fk_notifications_user
+                foreign key (user_id) references users (id)
+                """);
+        jdbcTemplate.execute("""
+                create index idx_notifications_user_created
+                on notifications (user_id, created_at desc, id desc)
+                """);
+
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "select min(created_at) from notifications_unpartitioned", Timestamp.class);
+        YearMonth current = YearMonth.now();
+        YearMonth first = oldest == null ? current : YearMonth.from(oldest.toLocalDateTime());
+        log.info("Partitioning the notifications table, moving notifications from {} to {}", first, current);
+        int moved = 0;
+        for (YearMonth month = first; !month.isAfter(current); month = month.plusMonths(1)) {
+            partitionRepository.createPartition(month);
+            int count = jdbcTemplate.update("""
+                    insert into notifications select * from notifications_unpartitioned
+                    where created_at >= ? and created_at < ?
+                    """, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+            moved += count;
+            log.info("Moved {} notifications of {}", count, month);
+        }
+        jdbcTemplate.execute("drop table notifications_unpartitioned");
+        log.info("Partitioned the notifications table by month and moved {} notifications", moved);
+    }
+
+    /**
+     * Lets notifications and digest entries be stored without a rendered message.
+     * They are stored as a template and parameters now; the message column only keeps
+     * the text of rows written before, and schema update never relaxes a not-null constraint.
+     */
+    private void dropLegacyMessageConstraints() {
+        jdbcTemplate.execute("alter table notifications alter column message drop not null");
+        jdbcTemplate.execute("alter table notification_digest_entries alter column message drop not null");
+    }
+
+    /**
+     * Numbers the notifications stored before sequence numbers were introduced, per user in order
+     * of creation and after the user's newest numbered notification, and moves the users'
+     * last sequence numbers past them. Does nothing once every notification is numbered.
+     */
+    private void backfillNotificationSequences() {
+        int numbered = jdbcTemplate.update("""
+                update notifications n
+                set seq = b.seq
+                from (select x.id, x.created_at,
+                             coalesce(s.last_sequence, 0)
+                                 + row_number() over (partition by x.user_id order by x.created_at, x.id) as seq
+                      from notifications x
+                      left join user_notification_state s on s.user_id = x.user_id
+                      where x.seq is null) b
+                where n.id = b.id and n.created_at = b.created_at
+                """);
+        if (numbered == 0) {
+            return;
+        }
+        jdbcTemplate.update("""
+                insert into user_notification_state (user_id, unread_count, last_sequence)
+                select user_id, 0, max(seq) from notifications group by user_id
+                on conflict (user_id) do update
+                set last_sequence = greatest(user_notification_state.last_sequence, excluded.last_sequence)
+                """);
+        log.info("Assigned sequence numbers to {} notifications", numbered);
+    }
+
+    /**
+     * Creates the index over each user's notifications in sequence order,
+     * which serves the replay of notifications missed by reconnecting clients.
+     */
+    private void createNotificationSequenceIndex() {
+        jdbcTemplate.execute("""
+                create index if not exists idx_notifications_user_seq
+                on notifications (user_id, seq)
+                """);
+    }
+
+    /**
+     * Brings the per-user unread notification counters in line with the notifications,
+     * creating the state rows of users who have notifications but no counter yet.
+     * A notification is unread when it is newer than the user's read watermark and has no
+     * read marker; it is counted when it is also newer than the start of the user's counter.
+     * Runs once, when the counters are introduced; the state table is locked against writes
+     * meanwhile, so counter updates of concurrent requests apply on top of the recount.
+     */
+    private void backfillUnreadNotificationCounts() {
+        jdbcTemplate.execute("lock table user_notification_state in share row exclusive mode");
+        int updated = jdbcTemplate.update("""
+                insert into user_notification_state (user_id, unread_count)
+                select u.id, count(n.id) filter (where not exists
+                    (select 1 from notification_reads r where r.notification_id = n.id))
+                from users u
+                left join user_notification_state s on s.user_id = u.id
+                left join notifications n on n.user_id = u.id
+                    and n.created_at > coalesce(greatest(s.read_watermark, s.counted_since), '-infinity'::timestamp)
+                group by u.id
+                on conflict (user_id) do update
+                set unread_count = excluded.unread_count
+                where user_notification_state.unread_count <> excluded.unread_count
+                """);
+        if (updated > 0) {
+            log.info("Backfilled unread notification counters for {} users", updated);
+        }
+    }
+
+    /**
+     * Creates a partial index over the tasks that are ready to start,
+     * so ready task lookups only touch matching rows.
+     */
+    private void createReadyTaskIndex() {
+        jdbcTemplate.execute("""
+                create index if not exists idx_task_ready
+                on task (project_id, startdate, id)
+                where unfinished_deps = 0 and status <> 'FINISHED'
+                """);
+    }
+
+    /**
+     * Creates a partial GiST index over the planned period of the unfinished tasks, replacing the
+     * earlier index over all tasks. Workload queries scan it for the open tasks overlapping a time
+     * window and then look up the assignment of each in {@code idx_task_assignees_user}, so finished
+     * tasks never enter the plan. The expression and condition must match the ones used by
+     * {@code TaskAssigneeRepository.findOpenTaskIntervals}.
+     */
+    private void createTaskPeriodIndex() {
+        jdbcTemplate.execute("""
+                create index if not exists idx_task_open_period
+                on task using gist (tsrange(startdate, greatest(startdate, coalesce(enddate, startdate)), '[]'))
+                where status <> 'FINISHED'
+                """);
+        jdbcTemplate.execute("drop index if exists idx_task_period");
+    }
+
+    /**
+     * Rebuilds the check constraint Hibernate generated for the notification status column
+     * when it does not allow every current {@link NotificationStatus}. Schema update creates
+     * the constraint with the table but never widens it when new statuses are added.
+     */
+    private void refreshNotificationStatusCheck() {
+        List<String> definitions = jdbcTemplate.queryForList("""
+                select pg_get_constraintdef(oid) from pg_constraint
+                where conrelid = 'notifications'::regclass and conname = 'notifications_status_check'
+                """, String.class);
+        boolean upToDate = definitions.stream().anyMatch(definition -> Arrays.stream(NotificationStatus.values())
+                .allMatch(status -> definition.contains("'" + status.name() + "'")));
+        if (upToDate) {
+            return;
+        }
+        String allowed = Arrays.stream(NotificationStatus.values())
+                .map(status -> "'" + status.name() + "'")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute("alter table notifications drop constraint if exists notifications_status_check");
+        jdbcTemplate.execute("alter table notifications add constraint notifications_status_check check (status in ("
+                + allowed + "))");
+        log.info("Updated the allowed notification statuses");
+    }
+}
@@ -12,10 +12,14 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tech.project.schedule.security.CurrentUserArgumentResolver;
 import tech.project.schedule.security.JwtAuthenticationFilter;
 
+import java.util.List;
+
 import static org.springframework.http.HttpMethod.OPTIONS;
 
 /**
@@ -35,6 +39,7 @@ public class SecurityConfig implements WebMvcConfigurer {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
 
     /**
      * Configures the security filter chain with authentication and authorization rules.
@@ -74,11 +79,19 @@ public class SecurityConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins("http://localhost:4200")
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("Authorization", "Content-Type", "*")
                 .allowCredentials(true);
     }
 
+    /**
+     * Lets controllers receive the authenticated user as a CurrentUser argument.
+     */
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+
     /**
      * Creates the authentication manager with user details service and password encoder.
      */
@@ -21,12 +21,15 @@ import java.util.List;
 /**
  * WebSocket configuration for real-time messaging in the application.
  * Enables bidirectional communication for features like notifications and live updates.
+ * The broker is an in-memory one per node; notifications reach the node a user is connected to
+ * through the configured {@code NotificationDeliveryBus}.
  */
 @Configuration
 @EnableWebSocketMessageBroker
 @Order(Ordered.HIGHEST_PRECEDENCE + 99)
 @RequiredArgsConstructor
 public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final ObjectMapper objectMapper;
 
      /**
      * Configures message broker channels for application communication.
@@ -57,7 +60,8 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
     }
 
     /**
-     * Configures JSON message conversion for WebSocket communication.
+     * Configures JSON message conversion for WebSocket communication,
+     * using the application's object mapper so dates and modules match the REST API.
      */
     @Override
     public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
@@ -65,7 +69,7 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
         resolver.setDefaultMimeType(MediaType.APPLICATION_JSON);
 
         MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
-        converter.setObjectMapper(new ObjectMapper());
+        converter.setObjectMapper(objectMapper);
         converter.setContentTypeResolver(resolver);
         messageConverters.add(converter);
 
@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
@@ -22,7 +23,9 @@ import tech.project.schedule.model.enums.GlobalRole;
 import tech.project.schedule.model.enums.UserStatus;
 import tech.project.schedule.model.user.User;
 import tech.project.schedule.repositories.UserRepository;
+import tech.project.schedule.services.UserCache;
 import tech.project.schedule.services.UserService;
+import tech.project.schedule.security.CurrentUser;
 import tech.project.schedule.security.JwtUtil;
 import java.util.Map;
 import java.time.LocalDateTime;
@@ -46,6 +49,7 @@ public class AuthController {
     private final UserService userService;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final UserCache userCache;
     
     @GetMapping("/oauth2-success")
     public RedirectView oauth2Success(@AuthenticationPrincipal OidcUser principal,
@@ -91,6 +95,7 @@ public class AuthController {
                 user.setGoogleRefreshToken(authorizedClient.getRefreshToken().getTokenValue());
             }
             userRepository.save(user);
+            userCache.evict(user);
         } else {
             user = new tech.project.schedule.model.user.User(
                     firstName != null ? firstName : "",
@@ -126,11 +131,12 @@ public class AuthController {
     /**
      * Registers a new user in the system.
      * 
+     * @param currentUser The admin registering the user, absent only while registering the first user
      * @param request Object containing user registration data
      * @return ResponseEntity containing the registration result message
      */
     @PostMapping("/register")
-    public ResponseEntity<RegistrationResponseDTO> register(@RequestParam(required = false) UUID adminId,
+    public ResponseEntity<RegistrationResponseDTO> register(@Nullable CurrentUser currentUser,
                                                             @Valid @RequestBody RegistrationRequest request) {
         // TEMPORARY: Allow registration of the first user as ADMIN if there are no users in the system
         if (userRepository.count() == 0) {
@@ -144,11 +150,10 @@ public class AuthController {
     String result = userService.register(adminRequest);
     return ResponseEntity.ok(new RegistrationResponseDTO("First admin registered! (temporary logic, remove after init)"));
 }
-        User admin = userRepository.findById(adminId)
-                .orElseThrow(() -> new ApiException("Admin user not found", HttpStatus.NOT_FOUND));
-        if (admin.getGlobalRole() != GlobalRole.ADMIN) {
+        if (currentUser == null) {
             throw new ApiException("Only ADMIN can register new users", HttpStatus.FORBIDDEN);
         }
+        assertAdmin(currentUser, "Only ADMIN can register new users");
         String result = userService.register(request);
         return ResponseEntity.ok(new RegistrationResponseDTO(result));
     }
@@ -233,23 +238,20 @@ public ResponseEntity<String> requestPasswordReset(@RequestBody SetPasswordReque
     /**
      * Retrieves a list of all users in the system.
      * 
-     * @param userId Identifier of the user making the request
+     * @param currentUser The user making the request
      * @return ResponseEntity containing a list of all users as DTOs
-     * @throws ApiException when the requesting user is not found
+     * @throws ApiException when the requesting user is not authorized
      */
     @GetMapping("/all-users")
     public ResponseEntity<List<UserDTO>> getAllUsers(
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(currentUser);
-        if (currentUser.getUserStatus() == UserStatus.BLOCKED) {
-            throw new ApiException("User is blocked and cannot perform this action", HttpStatus.FORBIDDEN);
-        }
+        User requester = loadRequester(currentUser);
+        UserUtils.assertAuthorized(requester);
+        boolean admin = requester.getGlobalRole() == GlobalRole.ADMIN;
 
         List<User> users = userRepository.findAll();
-        if (currentUser.getGlobalRole() != GlobalRole.ADMIN) {
+        if (!admin) {
             users = users.stream()
                     .filter(user -> user.getUserStatus() == UserStatus.AUTHORIZED)
                     .toList();
@@ -263,7 +265,7 @@ public ResponseEntity<String> requestPasswordReset(@RequestBody SetPasswordReque
                         user.getUsername(),
                         user.getEmail(),
                         user.getGlobalRole(),
-                        currentUser.getGlobalRole() == GlobalRole.ADMIN ? user.getUserStatus() : null
+                        admin ? user.getUserStatus() : null
                 ))
                 .toList();
 
@@ -273,19 +275,15 @@ public ResponseEntity<String> requestPasswordReset(@RequestBody SetPasswordReque
     /**
      * Blocks (soft-deletes) a user by email. Only ADMIN can perform this action.
      *
-     * @param adminId UUID of the admin performing the action
+     * @param currentUser The admin performing the action
      * @param email   Email of the user to block
      * @return ResponseEntity with result message
      */
     @PostMapping("/block-user")
     public ResponseEntity<String> blockUser(
-            @RequestParam UUID adminId,
+            CurrentUser currentUser,
             @RequestParam String email) {
-        User admin = userRepository.findById(adminId)
-                .orElseThrow(() -> new ApiException("Admin user not found", HttpStatus.NOT_FOUND));
-        if (admin.getGlobalRole() != GlobalRole.ADMIN) {
-            throw new ApiException("Only ADMIN can block users", HttpStatus.FORBIDDEN);
-        }
+        assertAdmin(currentUser, "Only ADMIN can block users");
         userService.blockUser(email);
         return ResponseEntity.ok("User blocked successfully.");
     }
@@ -293,13 +291,9 @@ public ResponseEntity<String> requestPasswordReset(@RequestBody SetPasswordReque
      * Changes the global role of a user. Only ADMIN can perform this action.
      */
     @PostMapping("/change-global-role")
-    public ResponseEntity<String> changeGlobalRole(@RequestParam UUID adminId,
+    public ResponseEntity<String> changeGlobalRole(CurrentUser currentUser,
                                                    @RequestBody ChangeGlobalRoleRequest request) {
-        User admin = userRepository.findById(adminId)
-                .orElseThrow(() -> new ApiException("Admin user not found", HttpStatus.NOT_FOUND));
-        if (admin.getGlobalRole() != GlobalRole.ADMIN) {
-            throw new ApiException("Only ADMIN can change global roles", HttpStatus.FORBIDDEN);
-        }
+        assertAdmin(currentUser, "Only ADMIN can change global roles");
         userService.changeGlobalRole(request);
         return ResponseEntity.ok("Global role changed successfully");
     }
@@ -308,13 +302,9 @@ public ResponseEntity<String> requestPasswordReset(@RequestBody SetPasswordReque
      * Authorizes a user (sets status to AUTHORIZED). Only ADMIN can perform this action.
      */
     @PostMapping("/authorize-user/{userId}")
-    public ResponseEntity<String> authorizeUser(@RequestParam UUID adminId,
+    public ResponseEntity<String> authorizeUser(CurrentUser currentUser,
                                                 @PathVariable UUID userId) {
-        User admin = userRepository.findById(adminId)
-                .orElseThrow(() -> new ApiException("Admin user not found", HttpStatus.NOT_FOUND));
-        if (admin.getGlobalRole() != GlobalRole.ADMIN) {
-            throw new ApiException("Only ADMIN can authorize users", HttpStatus.FORBIDDEN);
-        }
+        assertAdmin(currentUser, "Only ADMIN can authorize users");
         userService.authorizeUser(userId);
         return ResponseEntity.ok("User authorized successfully");
     }
@@ -342,4 +332,28 @@ public ResponseEntity<String> requestPasswordReset(@RequestBody SetPasswordReque
         
         return ResponseEntity.ok(userDTO);
     }
+
+    /**
+     * Loads the requesting user from the database.
+     * Checks whose outcome must not lag behind a block or role change use this rather than the
+     * authenticated user, which comes from the node's user cache.
+     */
+    private User loadRequester(CurrentUser currentUser) {
+        return userRepository.findById(currentUser.id())
+                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Throws ApiException unless the requesting user is currently an ADMIN and not blocked,
+     * according to the database.
+     */
+    private void assertAdmin(CurrentUser currentUser, String message) {
+        User requester = loadRequester(currentUser);
+        if (requester.getUserStatus() == UserStatus.BLOCKED) {
+            throw new ApiException("User is blocked and cannot perform this action", HttpStatus.FORBIDDEN);
+        }
+        if (requester.getGlobalRole() != GlobalRole.ADMIN) {
+            throw new ApiException(message, HttpStatus.FORBIDDEN);
+        }
+    }
 }
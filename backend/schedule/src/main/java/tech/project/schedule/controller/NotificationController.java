@@ -1,19 +1,28 @@
 package tech.project.schedule.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tech.project.schedule.dto.common.CursorPageDTO;
+import tech.project.schedule.dto.notification.NotificationBulkResultDTO;
 import tech.project.schedule.dto.notification.NotificationDTO;
+import tech.project.schedule.dto.notification.NotificationSettingsDTO;
+import tech.project.schedule.dto.notification.UnreadCountDTO;
 import tech.project.schedule.model.notification.Notification;
 import tech.project.schedule.model.user.User;
 import tech.project.schedule.repositories.UserRepository;
+import tech.project.schedule.security.CurrentUser;
 import tech.project.schedule.services.NotificationService;
+import tech.project.schedule.services.utils.NotificationTemplates;
 import tech.project.schedule.dto.mappers.NotificationMapper;
 import tech.project.schedule.utils.UserUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 /**
@@ -28,96 +37,191 @@ public class NotificationController {
 
     private final NotificationService notificationService;
     private final UserRepository userRepository;
+    private final NotificationTemplates templates;
 
     /**
      * Retrieves notifications for a specific user.
      * Validates that the requesting user is authorized to view these notifications.
      * 
      * @param userId ID of the user whose notifications to retrieve
-     * @param authenticatedUserId ID of the user making the request
+     * @param currentUser The user making the request
+     * @param includeOlder Whether notifications older than the recent months are included;
+     *                     archived notifications are never included
+     * @param locale Language of the messages, taken from the Accept-Language header
      * @return List of notifications as DTOs
      */
     @GetMapping("")
     public ResponseEntity<List<NotificationDTO>> getUserNotifications(
             @RequestParam UUID userId,
-            @RequestParam UUID authenticatedUserId) {
-        User authenticatedUser = userRepository.findById(authenticatedUserId).orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found")
-        );
-        UserUtils.assertAuthorized(authenticatedUser);
-        List<Notification> notifications = notificationService.getUserNotifications(userId, authenticatedUser);
-        return ResponseEntity.ok(NotificationMapper.notificationToDtoList(notifications));
+            CurrentUser currentUser,
+            @RequestParam(defaultValue = "false") boolean includeOlder,
+            Locale locale) {
+        UserUtils.assertAuthorized(currentUser);
+        User authenticatedUser = userRepository.getReferenceById(currentUser.id());
+        List<Notification> notifications = notificationService.getUserNotifications(userId, authenticatedUser,
+                includeOlder);
+        return ResponseEntity.ok(NotificationMapper.notificationToDtoList(notifications, templates, locale));
+    }
+
+    /**
+     * Retrieves one page of the requesting user's notifications, newest first.
+     * Unlike {@link #getUserNotifications}, the response is paginated with an opaque cursor.
+     * 
+     * @param currentUser The user making the request
+     * @param cursor Cursor returned with the previous page, omitted for the first page
+     * @param limit Maximum number of notifications in the page
+     * @param includeOlder Whether notifications older than the recent months are included;
+     *                     archived notifications are never included
+     * @param locale Language of the messages, taken from the Accept-Language header
+     * @return The page of notifications and the next-page cursor
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<NotificationDTO>> getNotificationPage(
+            CurrentUser currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean includeOlder,
+            Locale locale) {
+        UserUtils.assertAuthorized(currentUser);
+        User authenticatedUser = userRepository.getReferenceById(currentUser.id());
+        return ResponseEntity.ok(notificationService.getInboxPage(authenticatedUser, cursor, limit, includeOlder,
+                locale));
+    }
+
+    /**
+     * Opens a Server-Sent Events stream of the requesting user's new notifications.
+     * Every event holds a JSON array of notifications; idle streams receive heartbeat comments.
+     * A reconnecting client sends the ID of the last event it received in the {@code Last-Event-ID}
+     * header and first gets the notifications it missed.
+     * 
+     * @param currentUser The user making the request
+     * @param lastEventId ID of the last event received before a reconnect, omitted for a new stream
+     * @param locale Language of the missed messages, taken from the Accept-Language header
+     * @return The notification stream
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            CurrentUser currentUser,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            Locale locale) {
+        UserUtils.assertAuthorized(currentUser);
+        User authenticatedUser = userRepository.getReferenceById(currentUser.id());
+        return notificationService.openNotificationStream(authenticatedUser, lastEventId, locale);
+    }
+
+    /**
+     * Retrieves the number of the requesting user's unread notifications.
+     * 
+     * @param currentUser The user making the request
+     * @return The unread notification count
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<UnreadCountDTO> getUnreadCount(
+            CurrentUser currentUser) {
+        UserUtils.assertAuthorized(currentUser);
+        User authenticatedUser = userRepository.getReferenceById(currentUser.id());
+        return ResponseEntity.ok(new UnreadCountDTO(notificationService.getUnreadCount(authenticatedUser)));
     }
 
      /**
      * Marks a specific notification as read.
      * 
      * @param notificationId ID of the notification to mark as read
-     * @param userId ID of the user making the request
+     * @param currentUser The user making the request
+     * @param locale Language of the message, taken from the Accept-Language header
      * @return The updated notification as DTO
      */
     @PutMapping("/{notificationId}")
     public ResponseEntity<NotificationDTO> markNotificationAsRead(
             @PathVariable UUID notificationId,
-            @RequestParam UUID userId) {
-        User authenticatedUser = userRepository.findById(userId).orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found")
-        );
-        UserUtils.assertAuthorized(authenticatedUser);
+            CurrentUser currentUser,
+            Locale locale) {
+        UserUtils.assertAuthorized(currentUser);
+        User authenticatedUser = userRepository.getReferenceById(currentUser.id());
         Notification notification = notificationService.markNotificationAsRead(authenticatedUser, notificationId);
-        return ResponseEntity.ok(NotificationMapper.notificationToDto(notification));
+        return ResponseEntity.ok(NotificationMapper.notificationToDto(notification, templates, locale));
     }
 
     /**
      * Marks all notifications for a user as read.
      * 
-     * @param userId ID of the user making the request
-     * @return List of updated notifications as DTOs
+     * @param currentUser The user making the request
+     * @param before Optional cutoff (ISO date-time); notifications created later stay unread
+     * @return The number of notifications marked as read
      */
     @PutMapping("/read-all")
-    public ResponseEntity<List<NotificationDTO>> markAllNotificationsAsRead(
-            @RequestParam UUID userId) {
-        User authenticatedUser = userRepository.findById(userId).orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found")
-        );
-        UserUtils.assertAuthorized(authenticatedUser);
-        List<Notification> notifications = notificationService.markAllNotificationsAsRead(authenticatedUser);
-        return ResponseEntity.ok(NotificationMapper.notificationToDtoList(notifications));
+    public ResponseEntity<NotificationBulkResultDTO> markAllNotificationsAsRead(
+            CurrentUser currentUser,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before) {
+        UserUtils.assertAuthorized(currentUser);
+        User authenticatedUser = userRepository.getReferenceById(currentUser.id());
+        return ResponseEntity.ok(new NotificationBulkResultDTO(
+                notificationService.markAllNotificationsAsRead(authenticatedUser, before)));
     }
 
     /**
      * Deletes a specific notification.
      * 
      * @param notificationId ID of the notification to delete
-     * @param userId ID of the user making the request
+     * @param currentUser The user making the request
      * @return Empty response with 204 No Content status
      */
     @DeleteMapping("/{notificationId}")
     public ResponseEntity<String> deleteNotification(
             @PathVariable UUID notificationId,
-            @RequestParam UUID userId) {
-        User authenticatedUser = userRepository.findById(userId).orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found")
-        );
-        UserUtils.assertAuthorized(authenticatedUser);
+            CurrentUser currentUser) {
+        UserUtils.assertAuthorized(currentUser);
+        User authenticatedUser = userRepository.getReferenceById(currentUser.id());
         notificationService.deleteNotification(authenticatedUser, notificationId);
         return ResponseEntity.noContent().build();
     }
 
      /**
+     * Retrieves the notification settings of the requesting user.
+     * 
+     * @param currentUser The user making the request
+     * @return The user's notification settings
+     */
+    @GetMapping("/settings")
+    public ResponseEntity<NotificationSettingsDTO> getNotificationSettings(
+            CurrentUser currentUser) {
+        UserUtils.assertAuthorized(currentUser);
+        User authenticatedUser = userRepository.getReferenceById(currentUser.id());
+        return ResponseEntity.ok(new NotificationSettingsDTO(authenticatedUser.getNotificationDigest()));
+    }
+
+    /**
+     * Updates the notification settings of the requesting user, e.g. switches
+     * between immediate notifications and an hourly or daily digest.
+     * 
+     * @param currentUser The user making the request
+     * @param settings The new notification settings
+     * @return The saved notification settings
+     */
+    @PutMapping("/settings")
+    public ResponseEntity<NotificationSettingsDTO> updateNotificationSettings(
+            CurrentUser currentUser,
+            @RequestBody NotificationSettingsDTO settings) {
+        UserUtils.assertAuthorized(currentUser);
+        User authenticatedUser = userRepository.getReferenceById(currentUser.id());
+        return ResponseEntity.ok(new NotificationSettingsDTO(
+                notificationService.updateDigestMode(authenticatedUser, settings.digestMode())));
+    }
+
+    /**
      * Deletes all notifications for a user.
      * 
-     * @param userId ID of the user making the request
-     * @return Empty response with 204 No Content status
+     * @param currentUser The user making the request
+     * @param before Optional cutoff (ISO date-time); notifications created later are kept
+     * @return The number of deleted notifications
      */
     @DeleteMapping("/all")
-    public ResponseEntity<String> deleteAllNotifications(
-            @RequestParam UUID userId) {
-        User authenticatedUser = userRepository.findById(userId).orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found")
-        );
-        UserUtils.assertAuthorized(authenticatedUser);
-        notificationService.deleteAllNotifications(authenticatedUser);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<NotificationBulkResultDTO> deleteAllNotifications(
+            CurrentUser currentUser,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before) {
+        UserUtils.assertAuthorized(currentUser);
+        User authenticatedUser = userRepository.getReferenceById(currentUser.id());
+        return ResponseEntity.ok(new NotificationBulkResultDTO(
+                notificationService.deleteAllNotifications(authenticatedUser, before)));
     }
 } 
@@ -8,7 +8,9 @@ import org.springframework.web.bind.annotation.*;
 import tech.project.schedule.dto.project.AddProjectMemberDTO;
 import tech.project.schedule.dto.project.ProjectDTO;
 import tech.project.schedule.dto.project.ProjectMemberDTO;
+import tech.project.schedule.dto.project.ProjectScheduleDTO;
 import tech.project.schedule.dto.project.UpdateProjectMemberRoleDTO;
+import tech.project.schedule.dto.task.TaskDTO;
 import tech.project.schedule.dto.mappers.ProjectMapper;
 import tech.project.schedule.exception.ApiException;
 import tech.project.schedule.model.enums.ProjectUserRole;
@@ -16,7 +18,10 @@ import tech.project.schedule.model.project.Project;
 import tech.project.schedule.model.project.ProjectMember;
 import tech.project.schedule.model.user.User;
 import tech.project.schedule.repositories.UserRepository;
+import tech.project.schedule.security.CurrentUser;
+import tech.project.schedule.services.ProjectScheduleService;
 import tech.project.schedule.services.ProjectService;
+import tech.project.schedule.services.TaskService;
 import tech.project.schedule.utils.UserUtils;
 
 import java.util.*;
@@ -33,28 +38,29 @@ import java.util.stream.Collectors;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectScheduleService projectScheduleService;
+    private final TaskService taskService;
     private final UserRepository userRepository;
 
      /**
      * Creates a new project with the current user as the owner.
      *
      * @param projectDTO Data transfer object containing project details
-     * @param userId ID of the user creating the project
+     * @param currentUser The user creating the project
      * @return ResponseEntity containing the created project as DTO with HTTP status 201 (CREATED)
      * @throws ApiException if the user is not found
      */
     @PostMapping
     public ResponseEntity<ProjectDTO> createProject(
             @Valid @RequestBody ProjectDTO projectDTO,
-            @RequestParam UUID userId) {
+            CurrentUser currentUser) {
         
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
         UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
         
         Project project = ProjectMapper.dtoToProject(projectDTO);
         
-        Project createdProject = projectService.createProject(project, currentUser);
+        Project createdProject = projectService.createProject(project, user);
         
         return ResponseEntity.status(HttpStatus.CREATED).body(ProjectMapper.projectToDTO(createdProject));
     }
@@ -64,20 +70,19 @@ public class ProjectController {
      * Retrieves a project by its ID if the user has access to it.
      *
      * @param projectId ID of the project to retrieve
-     * @param userId ID of the user requesting the project
+     * @param currentUser The user requesting the project
      * @return ResponseEntity containing the project as DTO
      * @throws ApiException if the user or project is not found, or if user lacks access
     */
     @GetMapping("/{projectId}")
     public ResponseEntity<ProjectDTO> getProject(
             @PathVariable UUID projectId, 
-            @RequestParam UUID userId) {
+            CurrentUser currentUser) {
         
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
         UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
         
-        Project project = projectService.getProjectById(projectId, currentUser);
+        Project project = projectService.getProjectById(projectId, user);
         
         return ResponseEntity.ok(ProjectMapper.projectToDTO(project));
     }
@@ -87,7 +92,7 @@ public class ProjectController {
      *
      * @param projectId ID of the project to update
      * @param projectDTO Data transfer object containing updated project details
-     * @param userId ID of the user requesting the update
+     * @param currentUser The user requesting the update
      * @return ResponseEntity containing the updated project as DTO
      * @throws ApiException if the user or project is not found, or if user lacks permissions
      */
@@ -95,15 +100,14 @@ public class ProjectController {
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable UUID projectId, 
             @Valid @RequestBody ProjectDTO projectDTO, 
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
         UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
         
         Project project = ProjectMapper.dtoToProject(projectDTO);
         
-        Project updatedProject = projectService.updateProject(projectId, project, currentUser);
+        Project updatedProject = projectService.updateProject(projectId, project, user);
         
         return ResponseEntity.ok(ProjectMapper.projectToDTO(updatedProject));
     }
@@ -112,20 +116,19 @@ public class ProjectController {
      * Deletes a project if the user has appropriate permissions.
      *
      * @param projectId ID of the project to delete
-     * @param userId ID of the user requesting the deletion
+     * @param currentUser The user requesting the deletion
      * @return ResponseEntity with HTTP status 204 (NO CONTENT) on successful deletion
      * @throws ApiException if the user or project is not found, or if user lacks permissions
      */
     @DeleteMapping("/{projectId}")
     public ResponseEntity<Void> deleteProject(
             @PathVariable UUID projectId, 
-            @RequestParam UUID userId) {
+            CurrentUser currentUser) {
         
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
         UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
         
-        projectService.deleteProject(projectId, currentUser);
+        projectService.deleteProject(projectId, user);
         
         return ResponseEntity.noContent().build();
     }
@@ -135,7 +138,7 @@ public class ProjectController {
      *
      * @param projectId ID of the project to add member to
      * @param memberDTO Data transfer object containing user ID and role
-     * @param currentUserId ID of the user performing the action
+     * @param currentUser The user performing the action
      * @return ResponseEntity containing the added project member as DTO with HTTP status 201 (CREATED)
      * @throws ApiException if users are not found, project doesn't exist, or current user lacks permissions
      */
@@ -143,7 +146,7 @@ public class ProjectController {
     public ResponseEntity<ProjectMemberDTO> addMember(
             @PathVariable UUID projectId,
             @Valid @RequestBody AddProjectMemberDTO memberDTO,
-            @RequestParam UUID currentUserId
+            CurrentUser currentUser
 
     ) {
         UUID userId = memberDTO.userId();
@@ -151,8 +154,7 @@ public class ProjectController {
         
         User userToAdd = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        User principal = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
+        User principal = userRepository.getReferenceById(currentUser.id());
         
         ProjectMember addedMember = projectService.addMemberToProject(projectId, userToAdd, role, principal);
         
@@ -165,7 +167,7 @@ public class ProjectController {
      *
      * @param projectId ID of the project
      * @param userId ID of the user to be removed
-     * @param currentUserId ID of the user performing the action
+     * @param currentUser The user performing the action
      * @return ResponseEntity with HTTP status 204 (NO CONTENT) on successful removal
      * @throws ApiException if users are not found, project doesn't exist, or current user lacks permissions
      */
@@ -173,12 +175,11 @@ public class ProjectController {
     public ResponseEntity<Void> removeMember(
             @PathVariable UUID projectId,
             @PathVariable UUID userId,
-            @RequestParam UUID currentUserId
+            CurrentUser currentUser
     ) {
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
+        User user = userRepository.getReferenceById(currentUser.id());
         
-        projectService.removeMemberFromProject(projectId, userId, currentUser);
+        projectService.removeMemberFromProject(projectId, userId, user);
         
         return ResponseEntity.noContent().build();
     }
@@ -189,7 +190,7 @@ public class ProjectController {
      * @param projectId ID of the project
      * @param userId ID of the user whose role is being updated
      * @param roleDTO Data transfer object containing the new role
-     * @param currentUserId ID of the user performing the action
+     * @param currentUser The user performing the action
      * @return ResponseEntity containing the updated project member as DTO
      * @throws ApiException if users are not found, project doesn't exist, or current user lacks permissions
      */
@@ -198,14 +199,13 @@ public class ProjectController {
             @PathVariable UUID projectId,
             @PathVariable UUID userId,
             @Valid @RequestBody UpdateProjectMemberRoleDTO roleDTO,
-            @RequestParam UUID currentUserId
+            CurrentUser currentUser
     ) {
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
+        User user = userRepository.getReferenceById(currentUser.id());
         
         ProjectUserRole newRole = roleDTO.role();
         
-        ProjectMember updatedMember = projectService.updateMemberRole(projectId, userId, newRole, currentUser);
+        ProjectMember updatedMember = projectService.updateMemberRole(projectId, userId, newRole, user);
         
         return ResponseEntity.ok(ProjectMapper.memberToDTO(updatedMember));
     }
@@ -214,20 +214,19 @@ public class ProjectController {
      * Retrieves all members of a specific project.
      *
      * @param projectId ID of the project
-     * @param userId ID of the user requesting the member list
+     * @param currentUser The user requesting the member list
      * @return ResponseEntity containing a map of user IDs to project member DTOs
      * @throws ApiException if user is not found, project doesn't exist, or user lacks access
      */
     @GetMapping("/{projectId}/members")
     public ResponseEntity<Map<String, ProjectMemberDTO>> getProjectMembers(
             @PathVariable UUID projectId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
         UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
         
-        Map<UUID, ProjectMember> members = projectService.getProjectMembers(projectId, currentUser);
+        Map<UUID, ProjectMember> members = projectService.getProjectMembers(projectId, user);
         
         Map<String, ProjectMemberDTO> memberDTOs = members.entrySet().stream()
                 .collect(Collectors.toMap(
@@ -238,19 +237,60 @@ public class ProjectController {
         return ResponseEntity.ok(memberDTOs);
     }
 
+    /**
+     * Retrieves the critical path schedule of a project.
+     * For every task the response contains its earliest and latest start and finish,
+     * its total slack and whether it lies on the critical path.
+     *
+     * @param projectId ID of the project
+     * @param currentUser The user requesting the schedule
+     * @return ResponseEntity containing the project schedule
+     * @throws ApiException if user is not found, project doesn't exist, user lacks access,
+     *                      or the project's dependencies contain a cycle
+     */
+    @GetMapping("/{projectId}/schedule")
+    public ResponseEntity<ProjectScheduleDTO> getProjectSchedule(
+            @PathVariable UUID projectId,
+            CurrentUser currentUser
+    ) {
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
+
+        return ResponseEntity.ok(projectScheduleService.getSchedule(projectId, user));
+    }
+
+    /**
+     * Retrieves the tasks of a project that are ready to start,
+     * i.e. not finished and with every prerequisite finished.
+     *
+     * @param projectId ID of the project
+     * @param currentUser The user requesting the tasks
+     * @return ResponseEntity containing a list of task DTOs
+     * @throws ApiException if user is not found, project doesn't exist, or user lacks access
+     */
+    @GetMapping("/{projectId}/tasks/ready")
+    public ResponseEntity<List<TaskDTO>> getReadyTasks(
+            @PathVariable UUID projectId,
+            CurrentUser currentUser
+    ) {
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
+
+        return ResponseEntity.ok(taskService.getReadyTasksByProject(projectId, user));
+    }
+
        /**
      * Retrieves all projects that the specified user is a member of.
      *
-     * @param userId ID of the user whose projects are being retrieved
+     * @param currentUser The user whose projects are being retrieved
      * @return ResponseEntity containing a list of project DTOs
      * @throws ApiException if the user is not found
      */
     @GetMapping
     public ResponseEntity<List<ProjectDTO>> getUserProjects(
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
+        User user = userRepository.getReferenceById(currentUser.id());
         
         List<Project> projects = projectService.getUserProjects(user);
         List<ProjectDTO> projectDTOs = projects.stream()
@@ -6,14 +6,18 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import tech.project.schedule.dto.common.CursorPageDTO;
 import tech.project.schedule.dto.mappers.TaskMapper;
 import tech.project.schedule.dto.task.*;
 import tech.project.schedule.exception.ApiException;
+import tech.project.schedule.model.enums.TaskPriority;
+import tech.project.schedule.model.enums.TaskStatus;
 import tech.project.schedule.model.task.Task;
 import tech.project.schedule.model.task.TaskAssignee;
 import tech.project.schedule.model.task.TaskComment;
 import tech.project.schedule.model.user.User;
 import tech.project.schedule.repositories.UserRepository;
+import tech.project.schedule.security.CurrentUser;
 import tech.project.schedule.services.*;
 import java.util.List;
 import java.util.Set;
@@ -42,17 +46,16 @@ public class TaskController {
      * Creates a new task.
      *
      * @param taskRequestDTO Data transfer object containing task details
-     * @param userId ID of the user creating the task
+     * @param currentUser The user creating the task
      * @return ResponseEntity containing the created task as DTO with HTTP status 201 (CREATED)
      * @throws ApiException if the user is not found
      */
     @PostMapping
     public ResponseEntity<TaskDTO> createTask(
             @Valid @RequestBody TaskRequestDTO taskRequestDTO,
-            @RequestParam UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+            CurrentUser currentUser) {
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         Task task = TaskMapper.requestDtoToTask(taskRequestDTO);
 
@@ -61,21 +64,65 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(TaskMapper.taskToDTO(createdTask));
     }
     
+    /**
+     * Creates many tasks in one request.
+     * The batch is atomic: if any task is invalid, none is created and the response
+     * lists an error for every invalid task.
+     *
+     * @param taskRequestDTOs Data transfer objects containing the details of each task
+     * @param currentUser The user creating the tasks
+     * @return ResponseEntity containing the created tasks as DTOs with HTTP status 201 (CREATED)
+     * @throws ApiException if the user is not found, the batch is empty or too large, or any task is invalid
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskDTO>> createTasks(
+            @RequestBody List<TaskRequestDTO> taskRequestDTOs,
+            CurrentUser currentUser) {
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
+
+        List<Task> tasks = taskRequestDTOs.stream().map(TaskMapper::requestDtoToTask).toList();
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTasks(tasks, user));
+    }
+
+    /**
+     * Updates many tasks in one request. Each item must contain the task ID;
+     * other fields are changed only when present.
+     * The batch is atomic: if any update is invalid, no task is changed and the response
+     * lists an error for every invalid update.
+     *
+     * @param taskUpdateDTOs Data transfer objects containing the ID and updated fields of each task
+     * @param currentUser The user performing the update
+     * @return ResponseEntity containing the updated tasks as DTOs
+     * @throws ApiException if the user is not found, the batch is empty or too large, or any update is invalid
+     */
+    @PatchMapping("/batch")
+    public ResponseEntity<List<TaskDTO>> updateTasks(
+            @RequestBody List<TaskUpdateDTO> taskUpdateDTOs,
+            CurrentUser currentUser) {
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
+
+        List<Task> updates = taskUpdateDTOs.stream().map(TaskMapper::updateDtoToTask).toList();
+
+        return ResponseEntity.ok(taskService.updateTasks(updates, user));
+    }
+
       /**
      * Retrieves a specific task by its ID.
      *
      * @param taskId ID of the task to retrieve
-     * @param userId ID of the user requesting the task
+     * @param currentUser The user requesting the task
      * @return ResponseEntity containing the task as DTO
      * @throws ApiException if the user or task is not found, or if user lacks access
      */
     @GetMapping("/{taskId}")
     public ResponseEntity<TaskDTO> getTask(
             @PathVariable UUID taskId,
-            @RequestParam UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+            CurrentUser currentUser) {
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
         Task task = taskService.getTaskById(taskId, user);
 
         return ResponseEntity.ok(TaskMapper.taskToDTO(task));
@@ -86,21 +133,23 @@ public class TaskController {
      *
      * @param taskId ID of the task to update
      * @param taskUpdateDTO Data transfer object containing updated task details
-     * @param userId ID of the user performing the update
+     * @param currentUser The user performing the update
+     * @param cascade Whether dependent tasks should be shifted forward when the task's dates move
      * @return ResponseEntity containing the updated task as DTO
-     * @throws ApiException if the user or task is not found, or if user lacks permissions
+     * @throws ApiException if the user or task is not found, if user lacks permissions,
+     *                      or if cascading would move a dependent task past the project end date
      */
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskDTO> updateTask(
             @PathVariable UUID taskId,
             @RequestBody TaskUpdateDTO taskUpdateDTO,
-            @RequestParam UUID userId
+            CurrentUser currentUser,
+            @RequestParam(defaultValue = "false") boolean cascade
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
         Task task = TaskMapper.updateDtoToTask(taskUpdateDTO);
-        Task updatedTask = taskService.updateTask(taskId, task, user);
+        Task updatedTask = taskService.updateTask(taskId, task, user, cascade);
 
         return ResponseEntity.ok(TaskMapper.taskToDTO(updatedTask));
     }
@@ -110,18 +159,17 @@ public class TaskController {
      * Deletes a task.
      *
      * @param taskId ID of the task to delete
-     * @param userId ID of the user performing the deletion
+     * @param currentUser The user performing the deletion
      * @return ResponseEntity with HTTP status 204 (NO CONTENT) on successful deletion
      * @throws ApiException if the user or task is not found, or if user lacks permissions
      */
     @DeleteMapping("/{taskId}")
     public ResponseEntity<Void> deleteTask(
             @PathVariable UUID taskId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
         taskService.deleteTask(taskId, user);
         return ResponseEntity.noContent().build();
     }
@@ -130,18 +178,17 @@ public class TaskController {
      * Retrieves all tasks belonging to a specific project.
      *
      * @param projectId ID of the project whose tasks are to be retrieved
-     * @param userId ID of the user requesting the tasks
+     * @param currentUser The user requesting the tasks
      * @return ResponseEntity containing a list of tasks as DTOs
      * @throws ApiException if the user is not found or lacks access to the project
      */
     @GetMapping("/project/{projectId}")
     public ResponseEntity<List<TaskDTO>> getTasksByProject(
             @PathVariable UUID projectId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         List<Task> tasks = taskService.getTasksByProject(projectId, user);
         List<TaskDTO> taskDTOs = tasks.stream()
@@ -150,13 +197,42 @@ public class TaskController {
 
         return ResponseEntity.ok(taskDTOs);
     }
+
+    /**
+     * Retrieves one page of a project's tasks ordered by start date.
+     * Unlike {@link #getTasksByProject}, the response is paginated with an opaque cursor
+     * and built from a projection, so it stays cheap for projects with thousands of tasks.
+     *
+     * @param projectId ID of the project whose tasks are to be retrieved
+     * @param currentUser The user requesting the tasks
+     * @param cursor Cursor returned with the previous page, omitted for the first page
+     * @param limit Maximum number of tasks in the page
+     * @param status Optional status filter
+     * @param priority Optional priority filter
+     * @return ResponseEntity containing the page of tasks and the next-page cursor
+     * @throws ApiException if the user is not found, lacks access to the project, or the cursor is invalid
+     */
+    @GetMapping("/project/{projectId}/page")
+    public ResponseEntity<CursorPageDTO<TaskDTO>> getTaskPageByProject(
+            @PathVariable UUID projectId,
+            CurrentUser currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority
+    ) {
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
+
+        return ResponseEntity.ok(taskService.getTaskPageByProject(projectId, user, cursor, limit, status, priority));
+    }
     
      /**
      * Assigns a user to a task.
      *
      * @param taskId ID of the task to assign the user to
      * @param assigneeDTO Data transfer object containing the user ID to assign
-     * @param currentUserId ID of the user performing the assignment action
+     * @param currentUser The user performing the assignment action
      * @return ResponseEntity containing the created task assignee as DTO with HTTP status 201 (CREATED)
      * @throws ApiException if users are not found, task doesn't exist, or current user lacks permissions
      */
@@ -164,11 +240,10 @@ public class TaskController {
     public ResponseEntity<TaskAssigneeDTO> addAssignee(
             @PathVariable UUID taskId,
             @RequestBody TaskAssigneeDTO assigneeDTO,
-            @RequestParam UUID currentUserId
+            CurrentUser currentUser
     ) {
-        User currUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(currUser);
+        UserUtils.assertAuthorized(currentUser);
+        User currUser = userRepository.getReferenceById(currentUser.id());
 
         UUID userId = assigneeDTO.userId();
         User userToAdd = userRepository.findById(userId)
@@ -183,7 +258,7 @@ public class TaskController {
      *
      * @param taskId ID of the task
      * @param assigneeId ID of the assignee to remove
-     * @param currentUserId ID of the user performing the removal action
+     * @param currentUser The user performing the removal action
      * @return ResponseEntity with HTTP status 204 (NO CONTENT) on successful removal
      * @throws ApiException if users are not found, task doesn't exist, or current user lacks permissions
      */
@@ -191,11 +266,10 @@ public class TaskController {
     public ResponseEntity<Void> removeAssignee(
             @PathVariable UUID taskId,
             @PathVariable UUID assigneeId,
-            @RequestParam UUID currentUserId
+            CurrentUser currentUser
     ) {
-        User currUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(currUser);
+        UserUtils.assertAuthorized(currentUser);
+        User currUser = userRepository.getReferenceById(currentUser.id());
 
         taskAssigneeService.removeAssigneeFromTask(taskId, assigneeId, currUser);
         return ResponseEntity.noContent().build();
@@ -205,18 +279,17 @@ public class TaskController {
      * Retrieves all assignees for a specific task.
      *
      * @param taskId ID of the task
-     * @param userId ID of the user requesting the assignee list
+     * @param currentUser The user requesting the assignee list
      * @return ResponseEntity containing a set of task assignees as DTOs
      * @throws ApiException if the user is not found, task doesn't exist, or user lacks access
      */
     @GetMapping("/{taskId}/assignees")
     public ResponseEntity<Set<TaskAssigneeDTO>> getTaskAssignees(
             @PathVariable UUID taskId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         Set<TaskAssignee> assignees = taskAssigneeService.getTaskAssignees(taskId, user);
         Set<TaskAssigneeDTO> assigneeDTOs = assignees.stream()
@@ -231,7 +304,7 @@ public class TaskController {
      *
      * @param taskId ID of the task that will depend on another task
      * @param dependentOnTaskId ID of the task that is depended upon (prerequisite task)
-     * @param userId ID of the user creating the dependency
+     * @param currentUser The user creating the dependency
      * @return ResponseEntity with HTTP status 201 (CREATED) on successful creation
      * @throws ApiException if the user is not found, tasks don't exist, or user lacks permissions
      */
@@ -239,11 +312,10 @@ public class TaskController {
     public ResponseEntity<Void> addDependency(
             @PathVariable UUID taskId,
             @PathVariable UUID dependentOnTaskId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         taskDependencyService.addDependency(taskId, dependentOnTaskId, user);
         return ResponseEntity.status(HttpStatus.CREATED).build();
@@ -254,7 +326,7 @@ public class TaskController {
      *
      * @param taskId ID of the task that depends on another
      * @param dependentOnTaskId ID of the prerequisite task to remove as dependency
-     * @param userId ID of the user removing the dependency
+     * @param currentUser The user removing the dependency
      * @return ResponseEntity with HTTP status 204 (NO CONTENT) on successful removal
      * @throws ApiException if the user is not found, tasks don't exist, or user lacks permissions
      */
@@ -262,11 +334,10 @@ public class TaskController {
     public ResponseEntity<Void> removeDependency(
             @PathVariable UUID taskId,
             @PathVariable UUID dependentOnTaskId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         taskDependencyService.removeDependency(taskId, dependentOnTaskId, user);
         return ResponseEntity.noContent().build();
@@ -276,18 +347,17 @@ public class TaskController {
      * Retrieves all dependencies for a specific task.
      *
      * @param taskId ID of the task whose dependencies are to be retrieved
-     * @param userId ID of the user requesting the dependencies
+     * @param currentUser The user requesting the dependencies
      * @return ResponseEntity containing a set of UUIDs identifying the tasks that the specified task depends on
      * @throws ApiException if the user is not found, task doesn't exist, or user lacks access
      */
     @GetMapping("/{taskId}/dependencies")
     public ResponseEntity<Set<UUID>> getTaskDependencies(
             @PathVariable UUID taskId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         Set<Task> dependencies = taskDependencyService.getTaskDependencies(taskId, user);
         Set<UUID> dependencyIds = dependencies.stream()
@@ -296,6 +366,30 @@ public class TaskController {
 
         return ResponseEntity.ok(dependencyIds);
     }
+
+    /**
+     * Retrieves all tasks reachable from a task through dependencies, in one request.
+     *
+     * @param taskId ID of the task to start from
+     * @param currentUser The user requesting the dependencies
+     * @param direction "up" for prerequisites, "down" for dependent tasks
+     * @param maxDepth Optional maximum number of dependency links to follow
+     * @return ResponseEntity containing the reached task IDs with their depth
+     * @throws ApiException if the user is not found, task doesn't exist, user lacks access or the direction is invalid
+     */
+    @GetMapping("/{taskId}/dependencies/transitive")
+    public ResponseEntity<List<TransitiveDependencyDTO>> getTransitiveDependencies(
+            @PathVariable UUID taskId,
+            CurrentUser currentUser,
+            @RequestParam(defaultValue = "up") String direction,
+            @RequestParam(required = false) Integer maxDepth
+    ) {
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
+
+        return ResponseEntity.ok(taskDependencyService.getTransitiveDependencies(taskId, user, direction, maxDepth));
+    }
+
     /**
      * Updates a dependency relationship between tasks.
      * Replaces one prerequisite task with another for a specific task.
@@ -303,7 +397,7 @@ public class TaskController {
      * @param taskId ID of the task whose dependency is being updated
      * @param oldDependentOnTaskId ID of the current prerequisite task to be replaced
      * @param request DTO containing the new prerequisite task ID
-     * @param userId ID of the user updating the dependency (for authorization)
+     * @param currentUser The user updating the dependency (for authorization)
      * @return ResponseEntity with HTTP status 200 (OK) on successful update
      * @throws ApiException if the user is not found, tasks don't exist, or user lacks permissions
      */
@@ -312,11 +406,10 @@ public class TaskController {
             @PathVariable UUID taskId,
             @PathVariable UUID oldDependentOnTaskId,
             @RequestBody UpdateTaskDependencyRequest request,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         taskDependencyService.updateTaskDependency(taskId, oldDependentOnTaskId, request.getNewDependentOnTaskId(), user);
         return ResponseEntity.ok().build();
@@ -327,7 +420,7 @@ public class TaskController {
      *
      * @param taskId ID of the task to comment on
      * @param taskCommentDTO Data transfer object containing comment details
-     * @param userId ID of the user adding the comment
+     * @param currentUser The user adding the comment
      * @return ResponseEntity containing the created comment as DTO with HTTP status 201 (CREATED)
      * @throws ApiException if the user is not found, task doesn't exist, or user lacks permissions
      */
@@ -335,11 +428,10 @@ public class TaskController {
     public ResponseEntity<TaskCommentDTO> addComment(
             @PathVariable UUID taskId,
             @Valid @RequestBody TaskCommentDTO taskCommentDTO,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         TaskComment comment = TaskMapper.dtoToComment(taskCommentDTO);
 
@@ -353,18 +445,17 @@ public class TaskController {
      * Retrieves a specific comment by its ID.
      *
      * @param commentId ID of the comment to retrieve
-     * @param userId ID of the user requesting the comment
+     * @param currentUser The user requesting the comment
      * @return ResponseEntity containing the comment as DTO
      * @throws ApiException if the user or comment is not found, or if user lacks access
      */
     @GetMapping("/comments/{commentId}")
     public ResponseEntity<TaskCommentDTO> getComment(
             @PathVariable UUID commentId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         TaskComment comment = taskCommentService.getCommentById(commentId, user);
         return ResponseEntity.ok(TaskMapper.commentToDTO(comment));
@@ -374,18 +465,17 @@ public class TaskController {
      * Retrieves all assignees for a specific task in list format.
      *
      * @param taskId ID of the task
-     * @param userId ID of the user requesting the assignee list
+     * @param currentUser The user requesting the assignee list
      * @return ResponseEntity containing a list of task assignees as DTOs
      * @throws ApiException if the user is not found, task doesn't exist, or user lacks access
      */
     @GetMapping("/{taskId}/all-assignees")
     public ResponseEntity<List<TaskAssigneeDTO>> getAllTaskAssignees(
             @PathVariable UUID taskId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         List<TaskAssignee> assignees = taskAssigneeService.getAllAssigneesByTaskId(taskId, user);
         List<TaskAssigneeDTO> assigneeDTOs = assignees.stream()
@@ -399,36 +489,48 @@ public class TaskController {
      * Retrieves all tasks assigned to a specific user.
      *
      * @param userId ID of the user whose tasks should be retrieved
-     * @param requestUserId ID of the requesting user (for authorization)
+     * @param currentUser The requesting user (for authorization)
      * @return ResponseEntity containing a list of task DTOs
      * @throws ApiException if either user is not found or requesting user lacks permissions
      */
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<TaskDTO>> getTasksByUserId(
             @PathVariable UUID userId,
-            @RequestParam UUID requestUserId
+            CurrentUser currentUser
     ) {
-        User requestingUser = userRepository.findById(requestUserId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(requestingUser);
+        UserUtils.assertAuthorized(currentUser);
+        User requestingUser = userRepository.getReferenceById(currentUser.id());
         
-        List<Task> tasks = taskService.getTasksByUserId(userId, requestingUser);
-        
-        List<TaskDTO> taskDTOs = tasks.stream()
-                .map(TaskMapper::taskToDTO)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(taskDTOs);
+        return ResponseEntity.ok(taskService.getTasksByUserId(userId, requestingUser));
     }
     
+    /**
+     * Retrieves the tasks assigned to a user that are ready to start,
+     * i.e. not finished and with every prerequisite finished.
+     *
+     * @param userId ID of the user whose tasks should be retrieved
+     * @param currentUser The requesting user (for authorization)
+     * @return ResponseEntity containing a list of task DTOs
+     * @throws ApiException if either user is not found or requesting user lacks permissions
+     */
+    @GetMapping("/user/{userId}/ready")
+    public ResponseEntity<List<TaskDTO>> getReadyTasksByUserId(
+            @PathVariable UUID userId,
+            CurrentUser currentUser
+    ) {
+        UserUtils.assertAuthorized(currentUser);
+        User requestingUser = userRepository.getReferenceById(currentUser.id());
+
+        return ResponseEntity.ok(taskService.getReadyTasksByUserId(userId, requestingUser));
+    }
+
     @GetMapping("/comments/user")
     public ResponseEntity<List<TaskCommentDTO>> getUserComments(
-            @RequestParam UUID userId,
+            CurrentUser currentUser,
             @RequestParam UUID otherUserId
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
         User otherUser = userRepository.findById(otherUserId)
                 .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
 
@@ -439,28 +541,27 @@ public class TaskController {
         return ResponseEntity.ok(commentDTOs);
     }
     
-      /**
-     * Retrieves all comments for a specific task.
+    /**
+     * Retrieves one page of a task's comments in chronological order.
      *
      * @param taskId ID of the task whose comments are to be retrieved
-     * @param userId ID of the user requesting the comments
-     * @return ResponseEntity containing a list of comments as DTOs
-     * @throws ApiException if the user is not found, task doesn't exist, or user lacks access
+     * @param currentUser The user requesting the comments
+     * @param after Cursor returned with the previous page, omitted for the first page
+     * @param limit Maximum number of comments in the page
+     * @return ResponseEntity containing the page of comments and the next-page cursor
+     * @throws ApiException if the user is not found, task doesn't exist, user lacks access, or the cursor is invalid
      */
     @GetMapping("/{taskId}/comments")
-    public ResponseEntity<List<TaskCommentDTO>> getTaskComments(
+    public ResponseEntity<CursorPageDTO<TaskCommentDTO>> getTaskComments(
             @PathVariable UUID taskId,
-            @RequestParam UUID userId
+            CurrentUser currentUser,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
-        List<TaskComment> comments = taskCommentService.getCommentsForTask(taskId, user);
-        List<TaskCommentDTO> commentDTOs = comments.stream()
-                .map(TaskMapper::commentToDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(commentDTOs);
+        return ResponseEntity.ok(taskCommentService.getCommentPageForTask(taskId, user, after, limit));
     }
 
      /**
@@ -468,7 +569,7 @@ public class TaskController {
      *
      * @param taskId ID of the task containing the comment
      * @param commentId ID of the comment to delete
-     * @param userId ID of the user performing the deletion
+     * @param currentUser The user performing the deletion
      * @return ResponseEntity with HTTP status 204 (NO CONTENT) on successful deletion
      * @throws ApiException if the user is not found, task/comment doesn't exist, or user lacks permissions
      */
@@ -476,11 +577,10 @@ public class TaskController {
     public ResponseEntity<Void> deleteComment(
             @PathVariable UUID taskId,
             @PathVariable UUID commentId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         taskCommentService.deleteComment(taskId, user, commentId);
         return ResponseEntity.noContent().build();
@@ -490,18 +590,17 @@ public class TaskController {
      * Deletes all comments from a specific task.
      *
      * @param taskId ID of the task whose comments are to be deleted
-     * @param userId ID of the user performing the deletion
+     * @param currentUser The user performing the deletion
      * @return ResponseEntity with HTTP status 204 (NO CONTENT) on successful deletion
      * @throws ApiException if the user is not found, task doesn't exist, or user lacks permissions
      */
     @DeleteMapping("/{taskId}/comments")
     public ResponseEntity<Void> deleteAllCommentsInTask(
             @PathVariable UUID taskId,
-            @RequestParam UUID userId
+            CurrentUser currentUser
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
-        UserUtils.assertAuthorized(user);
+        UserUtils.assertAuthorized(currentUser);
+        User user = userRepository.getReferenceById(currentUser.id());
 
         taskCommentService.deleteAllCommentsForTask(taskId, user);
         return ResponseEntity.noContent().build();
@@ -0,0 +1,58 @@
+package tech.project.schedule.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tech.project.schedule.dto.user.WorkloadDTO;
+import tech.project.schedule.exception.ApiException;
+import tech.project.schedule.model.user.User;
+import tech.project.schedule.repositories.UserRepository;
+import tech.project.schedule.security.CurrentUser;
+import tech.project.schedule.services.WorkloadService;
+import tech.project.schedule.utils.UserUtils;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * REST controller for user-related views that are not part of authentication,
+ * such as a user's workload across all of their projects.
+ */
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final WorkloadService workloadService;
+    private final UserRepository userRepository;
+
+    /**
+     * Retrieves the workload timeline of a user: the peak number of concurrently assigned
+     * open tasks per day or week, and the intervals in which the user is overbooked.
+     *
+     * @param id ID of the user whose workload is retrieved
+     * @param currentUser The user making the request
+     * @param from First day of the range (ISO date), inclusive
+     * @param to Last day of the range (ISO date), inclusive
+     * @param bucket Bucket size, either "day" or "week"
+     * @param capacity Optional number of concurrent tasks above which the user is overbooked
+     * @return ResponseEntity containing the workload
+     * @throws ApiException if either user is not found, the requesting user lacks permission,
+     *                      or the parameters are invalid
+     */
+    @GetMapping("/{id}/workload")
+    public ResponseEntity<WorkloadDTO> getWorkload(
+            @PathVariable UUID id,
+            CurrentUser currentUser,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String bucket,
+            @RequestParam(required = false) Integer capacity
+    ) {
+        UserUtils.assertAuthorized(currentUser);
+        User requestingUser = userRepository.getReferenceById(currentUser.id());
+
+        return ResponseEntity.ok(workloadService.getWorkload(id, requestingUser, from, to, bucket, capacity));
+    }
+}
@@ -0,0 +1,11 @@
+package tech.project.schedule.dto.common;
+
+/**
+ * Data Transfer Object describing why one item of a batch request was rejected.
+ * The index is the item's position in the request body, starting at zero.
+ */
+public record BatchItemErrorDTO(
+        int index,
+        String message
+) {
+}
@@ -0,0 +1,16 @@
+package tech.project.schedule.dto.common;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object that represents one page of a keyset-paginated listing.
+ * The next page is requested by passing {@code nextCursor} back as the {@code cursor}
+ * parameter; a null cursor means there are no more results.
+ *
+ * @param <T> type of the listed items
+ */
+public record CursorPageDTO<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
@@ -2,8 +2,10 @@ package tech.project.schedule.dto.mappers;
 
 import tech.project.schedule.dto.notification.NotificationDTO;
 import tech.project.schedule.model.notification.Notification;
+import tech.project.schedule.services.utils.NotificationTemplates;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 /**
@@ -19,17 +21,26 @@ public class NotificationMapper {
      /**
      * Converts a single Notification entity to a NotificationDTO.
      * Extracts only the fields necessary for client display, omitting
-     * sensitive or unnecessary information.
+     * sensitive or unnecessary information. The message is rendered from the
+     * notification's template in the given language.
      * 
      * @param notification The domain entity to convert
+     * @param templates The notification template registry
+     * @param locale Language the message is rendered in
      * @return A DTO representation of the notification
      */
-    public static NotificationDTO notificationToDto(Notification notification){
+    public static NotificationDTO notificationToDto(Notification notification, NotificationTemplates templates,
+                                                    Locale locale){
         return new NotificationDTO(
           notification.getId(),
-          notification.getMessage(),
+          notification.getStatus(),
+          templates.render(notification.getContent(), locale),
+          notification.getUser().getId(),
+          notification.getSubjectId(),
           notification.getCreatedAt(),
-          notification.getIsRead()
+          notification.getIsRead(),
+          notification.getCount(),
+          notification.getSeq()
         );
     }
 
@@ -38,11 +49,14 @@ public class NotificationMapper {
      * Uses Java streams for efficient batch conversion.
      * 
      * @param notifications The list of domain entities to convert
+     * @param templates The notification template registry
+     * @param locale Language the messages are rendered in
      * @return A list of corresponding DTOs
      */
-    public static List<NotificationDTO> notificationToDtoList(List<Notification> notifications) {
+    public static List<NotificationDTO> notificationToDtoList(List<Notification> notifications,
+                                                              NotificationTemplates templates, Locale locale) {
         return notifications.stream()
-                .map(NotificationMapper::notificationToDto)
+                .map(notification -> notificationToDto(notification, templates, locale))
                 .collect(Collectors.toList());
     }
 }
@@ -8,6 +8,7 @@ import tech.project.schedule.dto.task.TaskRequestDTO;
 import tech.project.schedule.dto.task.TaskUpdateDTO;
 import tech.project.schedule.model.project.Project;
 import tech.project.schedule.model.task.*;
+import tech.project.schedule.repositories.projections.TaskSummaryView;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -69,7 +70,7 @@ public class TaskMapper {
 
      /**
      * Converts a Task entity to a TaskDTO.
-     * Handles conversion of associated collections like assignees, comments, and dependencies.
+     * Handles conversion of associated collections like assignees and dependencies.
      * 
      * @param task The Task entity to convert
      * @return A TaskDTO containing the task data and associated elements
@@ -80,11 +81,6 @@ public class TaskMapper {
             assigneeIds = task.getAssignees().stream().map(TaskAssignee::getId)
                     .collect(Collectors.toSet());
         }
-        Set<TaskCommentDTO> commentDtos = new HashSet<>();
-        if(task.getComments() != null) {
-            commentDtos = task.getComments().stream().map(TaskComment::mapToTaskCommentDTO)
-                    .collect(Collectors.toSet());
-        }
         Set<UUID> dependencyIds = new HashSet<>();
         if(task.getDependencies() != null && !task.getDependencies().isEmpty()) {
             for (TaskDependency dep : task.getDependencies()) {
@@ -103,7 +99,59 @@ public class TaskMapper {
                 task.getPriority(),
                 task.getStatus(),
                 assigneeIds,
-                commentDtos,
+                task.getCommentCount(),
+                task.getLastCommentAt(),
+                dependencyIds
+        );
+    }
+
+    /**
+     * Converts a Task entity and its pre-loaded child identifiers to a TaskDTO
+     * without initializing the task's collections.
+     *
+     * @param task The Task entity to convert
+     * @param assigneeIds IDs of the task's assignments
+     * @param dependencyIds IDs of the task's prerequisite tasks
+     * @return A TaskDTO containing the task data and identifiers
+     */
+    public static TaskDTO taskToDTO(Task task, Set<UUID> assigneeIds, Set<UUID> dependencyIds) {
+        return new TaskDTO(
+                task.getId(),
+                task.getProject().getId(),
+                task.getName(),
+                task.getDescription(),
+                task.getStartDate(),
+                task.getEndDate(),
+                task.getPriority(),
+                task.getStatus(),
+                assigneeIds,
+                task.getCommentCount(),
+                task.getLastCommentAt(),
+                dependencyIds
+        );
+    }
+
+    /**
+     * Converts a task projection and its pre-loaded child identifiers to a TaskDTO.
+     *
+     * @param task The task projection to convert
+     * @param assigneeIds IDs of the task's assignments
+     * @param dependencyIds IDs of the task's prerequisite tasks
+     * @return A TaskDTO containing the task data and identifiers
+     */
+    public static TaskDTO summaryToDTO(TaskSummaryView task, Set<UUID> assigneeIds, Set<UUID> dependencyIds) {
+        return new TaskDTO(
+                task.getId(),
+                task.getProjectId(),
+                task.getName(),
+                task.getDescription(),
+                task.getStartDate(),
+                task.getEndDate(),
+                task.getPriority(),
+                task.getStatus(),
+                assigneeIds,
+                task.getCommentCount(),
+                task.getLastCommentAt(),
                 dependencyIds
         );
     }
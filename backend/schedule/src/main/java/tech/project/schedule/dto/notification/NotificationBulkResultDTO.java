@@ -0,0 +1,10 @@
+package tech.project.schedule.dto.notification;
+
+/**
+ * Data Transfer Object returned by bulk notification operations,
+ * carrying the number of notifications the operation affected.
+ */
+public record NotificationBulkResultDTO(
+        int affected
+) {
+}
@@ -1,17 +1,27 @@
 package tech.project.schedule.dto.notification;
 
+import tech.project.schedule.model.enums.NotificationStatus;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * Data Transfer Object that represents a notification in the system.
  * Contains all essential information about a notification including its
- * unique identifier, message content, creation timestamp, and read status.
+ * unique identifier, type, message content, recipient, the entity it is about,
+ * creation timestamp, read status, the number of coalesced events the notification
+ * stands for, and its position among the recipient's notifications, from which
+ * a reconnecting client resumes.
  */
 public record NotificationDTO (
         UUID id,
+        NotificationStatus status,
         String message,
+        UUID userId,
+        UUID subjectId,
         LocalDateTime createdAt,
-        Boolean isRead
+        Boolean isRead,
+        Integer count,
+        Long seq
 ){
 }
@@ -0,0 +1,13 @@
+package tech.project.schedule.dto.notification;
+
+import tech.project.schedule.model.enums.NotificationDigestMode;
+
+/**
+ * Data Transfer Object holding a user's notification settings.
+ * The digest mode decides whether notifications are delivered immediately
+ * or collected into an hourly or daily digest.
+ */
+public record NotificationSettingsDTO(
+        NotificationDigestMode digestMode
+) {
+}
@@ -0,0 +1,10 @@
+package tech.project.schedule.dto.notification;
+
+/**
+ * Data Transfer Object carrying the number of a user's unread notifications,
+ * used to render the unread badge without fetching the notifications themselves.
+ */
+public record UnreadCountDTO(
+        int unreadCount
+) {
+}
@@ -0,0 +1,19 @@
+package tech.project.schedule.dto.project;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object that represents the critical path schedule of a project.
+ * Contains the schedule of every task, the overall start and finish of the project
+ * and one chain of critical tasks from the project start to its finish.
+ */
+public record ProjectScheduleDTO(
+        UUID projectId,
+        LocalDateTime projectStart,
+        LocalDateTime projectFinish,
+        List<TaskScheduleDTO> tasks,
+        List<UUID> criticalPath
+) {
+}
@@ -0,0 +1,20 @@
+package tech.project.schedule.dto.project;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object that represents the critical path analysis of a single task.
+ * Contains the earliest and latest start and finish times allowed by the task's
+ * dependencies, the total slack in minutes, and whether the task is critical.
+ */
+public record TaskScheduleDTO(
+        UUID taskId,
+        LocalDateTime earliestStart,
+        LocalDateTime earliestFinish,
+        LocalDateTime latestStart,
+        LocalDateTime latestFinish,
+        long totalSlackMinutes,
+        boolean critical
+) {
+}
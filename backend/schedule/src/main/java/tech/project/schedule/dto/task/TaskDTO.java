@@ -10,8 +10,9 @@ import java.util.UUID;
 /**
  * Data Transfer Object that represents a task in the scheduling system.
  * Contains comprehensive task information including identification, scheduling details,
- * priority and status, as well as relationships to assigned users, comments,
- * and task dependencies.
+ * priority and status, as well as relationships to assigned users and task dependencies.
+ * Comments are summarized by their count and latest creation time; the comments
+ * themselves are paginated separately.
  */
 public record TaskDTO(
         UUID id,
@@ -23,7 +24,8 @@ public record TaskDTO(
         TaskPriority priority,
         TaskStatus status,
         Set<UUID> assigneeIds,
-        Set<TaskCommentDTO> comments,
+        int commentCount,
+        LocalDateTime lastCommentAt,
         Set<UUID> dependencyIds
 ) {
 }
@@ -0,0 +1,13 @@
+package tech.project.schedule.dto.task;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object representing a task reached by following dependencies transitively.
+ * The depth is the number of dependency links on the shortest chain from the starting task,
+ * so direct prerequisites or dependents have depth 1.
+ */
+public record TransitiveDependencyDTO(
+        UUID taskId,
+        int depth
+) {}
@@ -0,0 +1,14 @@
+package tech.project.schedule.dto.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object that represents a period in which a user is assigned
+ * more concurrent open tasks than their capacity, with the peak number of tasks in it.
+ */
+public record OverbookedIntervalDTO(
+        LocalDateTime start,
+        LocalDateTime end,
+        int peakTasks
+) {
+}
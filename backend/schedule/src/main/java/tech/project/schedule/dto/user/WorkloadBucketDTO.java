@@ -0,0 +1,16 @@
+package tech.project.schedule.dto.user;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object that represents one day or week of a user's workload.
+ * Both dates are inclusive; peakTasks is the highest number of open tasks
+ * assigned to the user at the same time within the bucket.
+ */
+public record WorkloadBucketDTO(
+        LocalDate start,
+        LocalDate end,
+        int peakTasks,
+        boolean overbooked
+) {
+}
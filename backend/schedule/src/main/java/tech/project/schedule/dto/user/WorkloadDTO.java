@@ -0,0 +1,21 @@
+package tech.project.schedule.dto.user;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object that represents a user's workload over a date range.
+ * Contains the peak number of concurrently assigned open tasks per bucket
+ * and the intervals in which that number exceeds the given capacity.
+ */
+public record WorkloadDTO(
+        UUID userId,
+        LocalDate from,
+        LocalDate to,
+        String bucket,
+        int capacity,
+        List<WorkloadBucketDTO> buckets,
+        List<OverbookedIntervalDTO> overbooked
+) {
+}
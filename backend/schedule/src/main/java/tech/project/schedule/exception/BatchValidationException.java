@@ -0,0 +1,28 @@
+package tech.project.schedule.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import tech.project.schedule.dto.common.BatchItemErrorDTO;
+
+import java.util.List;
+
+/**
+ * Exception thrown when one or more items of a batch request are invalid.
+ * Carries an error for every rejected item, so clients can fix the whole batch at once.
+ * Nothing of the batch is written when this exception is thrown.
+ */
+@Getter
+public class BatchValidationException extends ApiException {
+    private final List<BatchItemErrorDTO> errors;
+
+    /**
+     * Constructs a BatchValidationException with HTTP status 400.
+     *
+     * @param message The detail message explaining the exception
+     * @param errors The errors of the rejected items
+     */
+    public BatchValidationException(String message, List<BatchItemErrorDTO> errors) {
+        super(message, HttpStatus.BAD_REQUEST);
+        this.errors = errors;
+    }
+}
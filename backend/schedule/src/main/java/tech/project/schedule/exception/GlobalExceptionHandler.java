@@ -35,6 +35,9 @@ public class GlobalExceptionHandler {
         body.put("error", ex.getStatus().getReasonPhrase());
         body.put("message", ex.getMessage());
         body.put("path", request.getDescription(false).replace("uri=", ""));
+        if (ex instanceof BatchValidationException batchException) {
+            body.put("errors", batchException.getErrors());
+        }
         
         return new ResponseEntity<>(body, ex.getStatus());
     }
@@ -0,0 +1,12 @@
+package tech.project.schedule.model.enums;
+
+/**
+ * Defines how often a user receives their notifications.
+ * With a digest mode, notifications are collected and delivered as a single
+ * summary notification once per period instead of one by one.
+ */
+public enum NotificationDigestMode {
+    OFF,
+    HOURLY,
+    DAILY
+}
@@ -25,6 +25,7 @@ public enum NotificationStatus {
     ERROR,              // For general error notifications
     PERMISSION_DENIED,  // For access control violations
     SYSTEM,             // For system-wide announcements and administrative messages
+    DIGEST,             // Summary of notifications collected for users with a digest mode
     
     // Additional notification types for future use
     DEADLINE_APPROACHING,
@@ -2,10 +2,14 @@ package tech.project.schedule.model.notification;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import tech.project.schedule.model.enums.NotificationStatus;
 import tech.project.schedule.model.user.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -13,6 +17,10 @@ import java.util.UUID;
  * Notifications are generated in response to various events (e.g., project updates,
  * task assignments) and are directed to specific users. The system uses these
  * records to display alerts and keep users informed about relevant activities.
+ *
+ * <p>The table is range-partitioned by month of creation. Its primary key, foreign key and
+ * inbox index are created by {@code SchemaInitializer}, since schema update cannot see them
+ * on a partitioned table.</p>
  */
 @Entity
 @Table(name = "Notifications")
@@ -29,28 +37,93 @@ public class Notification {
     private UUID id;
 
     @ManyToOne
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private NotificationStatus status;
 
-    @Column(nullable = false)
+    /**
+     * ID of the message template, or null if the template is named after the status;
+     * the message is rendered from it when the notification is read.
+     */
+    @Column(name = "template", length = 64)
+    private String template;
+
+    /**
+     * Values of the template's placeholders, such as task or project name snapshots.
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "params")
+    private Map<String, Object> params;
+
+    /**
+     * Rendered message of a notification stored before templates were introduced; null otherwise.
+     */
+    @Column
     private String message;
 
-    @Column(name = "created_at")
+    /**
+     * ID of the entity the notification is about (e.g. a task or project), if any.
+     * Notifications with the same recipient, status and subject are coalesced.
+     */
+    @Column(name = "subject_id")
+    private UUID subjectId;
+
+    /**
+     * Number of events merged into this notification; the message is that of the latest one.
+     */
+    @Builder.Default
+    @Column(name = "event_count", nullable = false, columnDefinition = "integer default 1")
+    private Integer count = 1;
+
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "is_read", nullable = false)
+    /**
+     * Position of the notification among the recipient's notifications, increasing by one with
+     * every notification the recipient receives. Clients resume their live view from it.
+     */
+    @Column(name = "seq")
+    private Long seq;
+
+    /**
+     * Whether the recipient has read the notification. Not stored on the row: it is derived
+     * from the recipient's read watermark and sparse reads (see {@link UserNotificationState}
+     * and {@link NotificationRead}) and filled in when notifications are loaded.
+     */
+    @Transient
     private Boolean isRead = false;
 
+    /**
+     * Returns the template and parameters of the notification. A notification stored before
+     * templates were introduced is returned as plain text.
+     */
+    public NotificationContent getContent() {
+        if (template == null) {
+            return message != null ? NotificationContent.text(message) : new NotificationContent(status.name(), params);
+        }
+        return new NotificationContent(template, params);
+    }
+
+    /**
+     * Sets the template and parameters of the notification. The status must be set first,
+     * so that a template named after it is not stored.
+     */
+    public void setContent(NotificationContent content) {
+        template = content.template().equals(status.name()) ? null : content.template();
+        params = content.params();
+    }
+
     /**
      * Lifecycle hook that executes before the entity is persisted.
      * Sets the creation timestamp to the current date and time.
      */
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // Stored with microsecond precision; pushed notifications carry their creation time
+        // as a stream position, so the value in memory must equal the stored one
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
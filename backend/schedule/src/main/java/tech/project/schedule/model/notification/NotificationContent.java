@@ -0,0 +1,51 @@
+package tech.project.schedule.model.notification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The content of a notification: the ID of a message template and the parameters filled into it.
+ * Notifications store their content instead of the rendered sentence, so they are rendered in the
+ * reader's language when read and take only a few bytes per row.
+ *
+ * @param template ID of the template in the notification template bundles
+ * @param params Values of the template's placeholders, e.g. snapshots of task or project names
+ */
+public record NotificationContent(String template, Map<String, Object> params) {
+    /**
+     * Template rendering its only parameter {@code text} as is, for free-form messages.
+     */
+    public static final String TEXT = "TEXT";
+
+    public NotificationContent {
+        params = params == null ? Map.of() : params;
+    }
+
+    /**
+     * Creates content from a template ID and alternating parameter names and values.
+     *
+     * @param template ID of the template
+     * @param namesAndValues Parameter names, each followed by its value
+     * @return The notification content
+     */
+    public static NotificationContent of(String template, Object... namesAndValues) {
+        if (namesAndValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Every parameter name needs a value");
+        }
+        Map<String, Object> params = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            params.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return new NotificationContent(template, params);
+    }
+
+    /**
+     * Creates content showing a free-form message.
+     *
+     * @param text The message
+     * @return The notification content
+     */
+    public static NotificationContent text(String text) {
+        return of(TEXT, "text", text);
+    }
+}
@@ -0,0 +1,97 @@
+package tech.project.schedule.model.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import tech.project.schedule.model.enums.NotificationStatus;
+import tech.project.schedule.model.user.User;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Entity class representing a notification held back for a user's next digest.
+ * Users with a digest mode do not receive notifications one by one; instead the entries
+ * collected during the period are merged into a single digest notification.
+ */
+@Entity
+@Table(name = "notification_digest_entries",
+        indexes = @Index(name = "idx_notification_digest_entries_user", columnList = "user_id"))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NotificationDigestEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationStatus status;
+
+    /**
+     * ID of the message template, or null if the template is named after the status;
+     * the message is rendered from it when the digest is read.
+     */
+    @Column(name = "template", length = 64)
+    private String template;
+
+    /**
+     * Values of the template's placeholders, such as task or project name snapshots.
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "params")
+    private Map<String, Object> params;
+
+    /**
+     * Rendered message of an entry stored before templates were introduced; null otherwise.
+     */
+    @Column
+    private String message;
+
+    @Column(name = "subject_id")
+    private UUID subjectId;
+
+    @Column(name = "event_count", nullable = false)
+    private Integer count;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * Returns the template and parameters of the entry. An entry stored before templates
+     * were introduced is returned as plain text.
+     */
+    public NotificationContent getContent() {
+        if (template == null) {
+            return message != null ? NotificationContent.text(message) : new NotificationContent(status.name(), params);
+        }
+        return new NotificationContent(template, params);
+    }
+
+    /**
+     * Sets the template and parameters of the entry. The status must be set first,
+     * so that a template named after it is not stored.
+     */
+    public void setContent(NotificationContent content) {
+        template = content.template().equals(status.name()) ? null : content.template();
+        params = content.params();
+    }
+
+    /**
+     * Lifecycle hook that executes before the entity is persisted.
+     * Sets the creation timestamp to the current date and time.
+     */
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
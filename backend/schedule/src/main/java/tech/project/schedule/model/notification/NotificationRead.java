@@ -0,0 +1,32 @@
+package tech.project.schedule.model.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity class recording that a user has read a single notification newer than
+ * their read watermark. The creation time of the notification is copied here so
+ * that the rows passed by an advancing watermark can be removed without a join.
+ */
+@Entity
+@Table(name = "notification_reads", indexes = {
+        @Index(name = "idx_notification_reads_user_created", columnList = "user_id, notification_created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationRead {
+    @Id
+    @Column(name = "notification_id")
+    private UUID notificationId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "notification_created_at", nullable = false)
+    private LocalDateTime notificationCreatedAt;
+}
@@ -0,0 +1,50 @@
+package tech.project.schedule.model.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity class holding per-user notification state that would otherwise have to be
+ * computed from the user's notifications, such as the number of unread notifications.
+ * The row is created on the user's first notification and kept in sync by bulk statements
+ * whenever notifications are stored, read or deleted.
+ *
+ * <p>Read state is kept as a watermark: every notification created at or before
+ * {@code readWatermark} is read. Notifications newer than the watermark that were read
+ * individually are recorded as {@link NotificationRead} rows, which are dropped once
+ * the watermark passes them.</p>
+ *
+ * <p>The unread count only covers notifications created after {@code countedSince}, which the
+ * retention job keeps at the start of the hot window, the part of the inbox shown by default.
+ * Notifications leaving the hot window keep their read state but no longer count.</p>
+ *
+ * <p>{@code lastSequence} is the sequence number of the user's newest notification. Every stored
+ * notification takes the next number, so a reconnecting client can ask for exactly the
+ * notifications it missed.</p>
+ */
+@Entity
+@Table(name = "user_notification_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserNotificationState {
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "unread_count", nullable = false, columnDefinition = "integer default 0")
+    private Integer unreadCount = 0;
+
+    @Column(name = "read_watermark")
+    private LocalDateTime readWatermark;
+
+    @Column(name = "last_sequence", nullable = false, columnDefinition = "bigint default 0")
+    private Long lastSequence = 0L;
+
+    @Column(name = "counted_since")
+    private LocalDateTime countedSince;
+}
@@ -0,0 +1,28 @@
+package tech.project.schedule.model.project;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Entity class holding the version of a project's task dependencies.
+ * Every change to the project's dependencies advances the version with an atomic upsert,
+ * which also locks the row until the change completes, so the dependency changes of a project
+ * are applied one at a time across all nodes. Nodes compare the version with the one of their
+ * cached dependency graph to tell whether the graph is still current.
+ */
+@Entity
+@Table(name = "project_dependency_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDependencyState {
+    @Id
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version = 0L;
+}
@@ -19,7 +19,9 @@ import java.util.UUID;
  * for tracking timeline, assignment, priority, and dependencies.
  */
 @Entity
-@Table(name = "Task")
+@Table(name = "Task", indexes = {
+        @Index(name = "idx_task_project_start", columnList = "project_id, startdate, id")
+})
 @Data
 @NoArgsConstructor
 public class Task {
@@ -81,6 +83,32 @@ public class Task {
     @Column(nullable = false)
     private TaskStatus status;
 
+     /**
+     * Number of comments on the task.
+     * Maintained by {@link tech.project.schedule.repositories.TaskRepository} bulk updates
+     * so that task listings do not have to read the comments themselves.
+     */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "integer default 0")
+    private int commentCount;
+
+    /**
+     * Creation time of the most recent comment, or null when the task has no comments.
+     * Maintained together with {@link #commentCount}.
+     */
+    @Column(name = "last_comment_at", insertable = false, updatable = false)
+    private LocalDateTime lastCommentAt;
+
+    /**
+     * Number of prerequisites of the task that are not finished yet.
+     * A task whose counter is zero is ready to start. Maintained by
+     * {@link tech.project.schedule.repositories.TaskRepository} bulk updates
+     * whenever dependencies change or a prerequisite's status flips to or from FINISHED.
+     */
+    @Column(name = "unfinished_deps", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "integer default 0")
+    private int unfinishedDeps;
+
      /**
      * Users who are assigned to work on this task.
      */
@@ -14,7 +14,9 @@ import java.util.UUID;
  * which users are responsible for working on specific tasks.
  */
 @Entity
-@Table(name = "Task_Assignees")
+@Table(name = "Task_Assignees", indexes = {
+        @Index(name = "idx_task_assignees_user", columnList = "user_id, task_id")
+})
 @Data
 @NoArgsConstructor
 public class TaskAssignee {
@@ -14,7 +14,9 @@ import java.util.UUID;
  * related to specific tasks, with tracking of who made the comment and when.
  */
 @Entity
-@Table(name = "Task_Comments")
+@Table(name = "Task_Comments", indexes = {
+        @Index(name = "idx_task_comments_task_created", columnList = "task_id, created_at, id")
+})
 @Data
 public class TaskComment {
     /**
@@ -12,7 +12,10 @@ import java.util.UUID;
  * another can begin.
  */
 @Entity
-@Table(name = "Task_Dependencies")
+@Table(name = "Task_Dependencies", indexes = {
+        @Index(name = "idx_task_dependencies_task", columnList = "task_id"),
+        @Index(name = "idx_task_dependencies_depends_on", columnList = "depends_on_task_id")
+})
 @Data
 public class TaskDependency {
     /**
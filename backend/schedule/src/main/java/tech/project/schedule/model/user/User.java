@@ -4,8 +4,10 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import tech.project.schedule.model.notification.Notification;
 import tech.project.schedule.model.enums.GlobalRole;
+import tech.project.schedule.model.enums.NotificationDigestMode;
 import tech.project.schedule.model.enums.UserStatus;
 import tech.project.schedule.model.project.ProjectMember;
 import tech.project.schedule.model.task.TaskAssignee;
@@ -117,6 +119,14 @@ public class User {
     @Column(name = "google_refresh_token")
     private String googleRefreshToken;
 
+    /**
+     * How often the user receives notifications: immediately, or as an hourly or daily digest.
+     */
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'OFF'")
+    @Column(name = "notification_digest", nullable = false, length = 16)
+    private NotificationDigestMode notificationDigest = NotificationDigestMode.OFF;
+
     public User(String firstName, String lastName,
                 String email, String password,
                 String username) {
@@ -0,0 +1,29 @@
+package tech.project.schedule.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tech.project.schedule.model.enums.NotificationDigestMode;
+import tech.project.schedule.model.notification.NotificationDigestEntry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for accessing notifications held back for users' digests.
+ */
+@Repository
+public interface NotificationDigestEntryRepository extends JpaRepository<NotificationDigestEntry, UUID> {
+    /**
+     * Retrieves the pending digest entries of all users with one of the given digest modes,
+     * grouped by user and ordered by creation time.
+     *
+     * @param modes The digest modes whose users' entries are retrieved
+     * @return The pending entries
+     */
+    @Query("select e from NotificationDigestEntry e where e.user.notificationDigest in :modes " +
+            "order by e.user.id, e.createdAt")
+    List<NotificationDigestEntry> findByDigestModes(@Param("modes") Collection<NotificationDigestMode> modes);
+}
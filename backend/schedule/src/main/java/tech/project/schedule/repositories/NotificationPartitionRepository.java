@@ -0,0 +1,128 @@
+package tech.project.schedule.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repository managing the monthly partitions of the notifications table.
+ * Notifications are range-partitioned by {@code created_at}; every partition holds one calendar
+ * month and is named {@code notifications_pYYYY_MM}. Partition DDL cannot be expressed through JPA,
+ * so this repository works directly with SQL.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionRepository {
+    private static final String PREFIX = "notifications_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns whether the notifications table is already partitioned.
+     */
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select relkind = 'p' from pg_class where oid = 'notifications'::regclass", Boolean.class));
+    }
+
+    /**
+     * Returns the months of all attached partitions, oldest first.
+     * Partitions that do not follow the naming scheme are ignored.
+     */
+    public List<YearMonth> findPartitionMonths() {
+        List<String> names = jdbcTemplate.queryForList("""
+                select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid
+                where i.inhparent = 'notifications'::regclass
+                order by c.relname
+                """, String.class);
+        List<YearMonth> months = new ArrayList<>(names.size());
+        for (String name : names) {
+            if (name.startsWith(PREFIX)) {
+                try {
+                    months.add(YearMonth.parse(name.substring(PREFIX.length()), SUFFIX));
+                } catch (DateTimeParseException e) {
+                    // Not one of ours
+                }
+            }
+        }
+        return months;
+    }
+
+    /**
+     * Creates the partition of a month unless it already exists.
+     *
+     * @param month The month the partition covers
+     */
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("create table if not exists " + partitionName(month)
+                + " partition of notifications for values from ('" + month.atDay(1)
+                + "') to ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    /**
+     * Subtracts the unread notifications stored in a partition from their recipients' unread counters
+     * and removes the individual read markers of its notifications, so that the partition can be
+     * detached without leaving the per-user state inconsistent.
+     *
+     * @param month The month of the partition
+     * @return The number of users whose counter changed
+     */
+    public int releaseReadState(YearMonth month) {
+        String partition = partitionName(month);
+        int updated = jdbcTemplate.update("""
+                update user_notification_state s
+                set unread_count = greatest(s.unread_count - c.cnt, 0)
+                from (select n.user_id, count(*) as cnt
+                      from %s n
+                      left join user_notification_state w on w.user_id = n.user_id
+                      where n.created_at > coalesce(greatest(w.read_watermark, w.counted_since), '-infinity'::timestamp)
+                        and not exists (select 1 from notification_reads r where r.notification_id = n.id)
+                      group by n.user_id) c
+                where s.user_id = c.user_id
+                """.formatted(partition));
+        jdbcTemplate.update("delete from notification_reads where notification_id in (select id from "
+                + partition + ")");
+        return updated;
+    }
+
+    /**
+     * Detaches the partition of a month from the notifications table.
+     *
+     * @param month The month of the partition
+     */
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("alter table notifications detach partition " + partitionName(month));
+    }
+
+    /**
+     * Drops a detached partition.
+     *
+     * @param month The month of the partition
+     */
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("drop table if exists " + partitionName(month));
+    }
+
+    /**
+     * Moves a detached partition into the archive schema, where it is kept as a plain table
+     * outside of the application's reach.
+     *
+     * @param month The month of the partition
+     * @param schema Name of the archive schema, created if needed
+     */
+    public void archivePartition(YearMonth month, String schema) {
+        jdbcTemplate.execute("create schema if not exists " + schema);
+        jdbcTemplate.execute("alter table " + partitionName(month) + " set schema " + schema);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PREFIX + month.format(SUFFIX);
+    }
+}
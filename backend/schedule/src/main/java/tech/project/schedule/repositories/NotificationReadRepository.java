@@ -0,0 +1,67 @@
+package tech.project.schedule.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tech.project.schedule.model.notification.NotificationRead;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Repository interface for the sparse set of notifications read individually
+ * ahead of their recipient's read watermark.
+ */
+@Repository
+public interface NotificationReadRepository extends JpaRepository<NotificationRead, UUID> {
+    /**
+     * Records that a user has read a notification, unless already recorded.
+     *
+     * @param notificationId The ID of the notification
+     * @param userId The ID of the recipient
+     * @param createdAt Creation time of the notification
+     * @return 1 if the read was recorded, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = """
+            insert into notification_reads (notification_id, user_id, notification_created_at)
+            values (:notificationId, :userId, :createdAt)
+            on conflict (notification_id) do nothing
+            """, nativeQuery = true)
+    int insertRead(@Param("notificationId") UUID notificationId, @Param("userId") UUID userId,
+                   @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Returns the IDs of a user's notifications that were read individually.
+     *
+     * @param userId The ID of the user
+     * @return IDs of the individually read notifications
+     */
+    @Query("select r.notificationId from NotificationRead r where r.userId = :userId")
+    Set<UUID> findNotificationIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Removes a user's reads of notifications created at or before the given time,
+     * which are covered by the read watermark or have been deleted.
+     *
+     * @param userId The ID of the user
+     * @param upTo Reads of notifications created at or before this time are removed
+     * @return The number of removed rows
+     */
+    @Modifying
+    @Query("delete from NotificationRead r where r.userId = :userId and r.notificationCreatedAt <= :upTo")
+    int deleteUpTo(@Param("userId") UUID userId, @Param("upTo") LocalDateTime upTo);
+
+    /**
+     * Removes the read record of a single notification.
+     *
+     * @param notificationId The ID of the notification
+     * @return 1 if a read record was removed, 0 otherwise
+     */
+    @Modifying
+    @Query("delete from NotificationRead r where r.notificationId = :notificationId")
+    int deleteByNotificationId(@Param("notificationId") UUID notificationId);
+}
@@ -1,11 +1,17 @@
 package tech.project.schedule.repositories;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tech.project.schedule.model.notification.Notification;
 import tech.project.schedule.model.project.Project;
 import tech.project.schedule.model.user.User;
+import tech.project.schedule.repositories.projections.NotificationInboxView;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,11 +24,134 @@ import java.util.UUID;
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
     /**
-     * Retrieves all notifications targeted to a specific user.
-     * Used for displaying a user's notification feed and determining unread counts.
+     * Retrieves all notifications targeted to a specific user created at or after the given time.
+     * Used for displaying a user's notification feed; the lower bound lets the database skip
+     * the monthly partitions that cannot contain matching rows.
      * 
      * @param user The user whose notifications should be retrieved
+     * @param since Notifications created before this time are not retrieved
      * @return List of notifications directed to the specified user
      */
-    List<Notification> findByUser(User user);
+    List<Notification> findByUserAndCreatedAtGreaterThanEqual(User user, LocalDateTime since);
+
+    /**
+     * Retrieves the first page of a user's inbox, newest first.
+     * A notification is read if it is not newer than the read watermark or was read individually.
+     *
+     * @param userId The ID of the user
+     * @param watermark The user's read watermark
+     * @param since Notifications created before this time are not retrieved
+     * @param pageable Page size holder; the offset is always zero for keyset pagination
+     * @return Notifications of the first page
+     */
+    @Query("""
+            select n.id as id, n.status as status, n.template as template, n.params as params, n.message as message,
+                n.createdAt as createdAt,
+                case when n.createdAt <= :watermark
+                          or exists (select 1 from NotificationRead r where r.notificationId = n.id)
+                     then true else false end as isRead,
+                n.count as count, n.seq as seq, n.user.id as userId, n.subjectId as subjectId
+            from Notification n
+            where n.user.id = :userId and n.createdAt >= :since
+            order by n.createdAt desc, n.id desc
+            """)
+    List<NotificationInboxView> findInboxPage(@Param("userId") UUID userId, @Param("watermark") LocalDateTime watermark,
+                                              @Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * Retrieves the page of a user's inbox that follows the given (createdAt, id) key, newest first.
+     *
+     * @param userId The ID of the user
+     * @param watermark The user's read watermark
+     * @param since Notifications created before this time are not retrieved
+     * @param beforeCreatedAt Creation time of the last notification of the previous page
+     * @param beforeId ID of the last notification of the previous page
+     * @param pageable Page size holder; the offset is always zero for keyset pagination
+     * @return Notifications of the requested page
+     */
+    @Query("""
+            select n.id as id, n.status as status, n.template as template, n.params as params, n.message as message,
+                n.createdAt as createdAt,
+                case when n.createdAt <= :watermark
+                          or exists (select 1 from NotificationRead r where r.notificationId = n.id)
+                     then true else false end as isRead,
+                n.count as count, n.seq as seq, n.user.id as userId, n.subjectId as subjectId
+            from Notification n
+            where n.user.id = :userId and n.createdAt >= :since
+              and (n.createdAt < :beforeCreatedAt or (n.createdAt = :beforeCreatedAt and n.id < :beforeId))
+            order by n.createdAt desc, n.id desc
+            """)
+    List<NotificationInboxView> findInboxPageBefore(@Param("userId") UUID userId,
+                                                    @Param("watermark") LocalDateTime watermark,
+                                                    @Param("since") LocalDateTime since,
+                                                    @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                                    @Param("beforeId") UUID beforeId,
+                                                    Pageable pageable);
+
+    /**
+     * Retrieves a user's notifications with a sequence number above the given one, oldest first.
+     * Used to replay the notifications a client missed while it was disconnected.
+     *
+     * @param userId The ID of the user
+     * @param watermark The user's read watermark
+     * @param afterSequence Sequence number of the last notification the client received
+     * @param pageable Page size holder; the offset is always zero
+     * @return The missed notifications
+     */
+    @Query("""
+            select n.id as id, n.status as status, n.template as template, n.params as params, n.message as message,
+                n.createdAt as createdAt,
+                case when n.createdAt <= :watermark
+                          or exists (select 1 from NotificationRead r where r.notificationId = n.id)
+                     then true else false end as isRead,
+                n.count as count, n.seq as seq, n.user.id as userId, n.subjectId as subjectId
+            from Notification n
+            where n.user.id = :userId and n.seq > :afterSequence
+            order by n.seq
+            """)
+    List<NotificationInboxView> findInboxAfterSequence(@Param("userId") UUID userId,
+                                                       @Param("watermark") LocalDateTime watermark,
+                                                       @Param("afterSequence") long afterSequence,
+                                                       Pageable pageable);
+
+    /**
+     * Counts a user's unread notifications created after the watermark and at or before the given time.
+     *
+     * @param userId The ID of the user
+     * @param watermark The user's read watermark
+     * @param upTo Notifications created after this time are not counted
+     * @return The number of unread notifications in the range
+     */
+    @Query("""
+            select count(n) from Notification n
+            where n.user.id = :userId and n.createdAt > :watermark and n.createdAt <= :upTo
+              and not exists (select 1 from NotificationRead r where r.notificationId = n.id)
+            """)
+    long countUnread(@Param("userId") UUID userId, @Param("watermark") LocalDateTime watermark,
+                     @Param("upTo") LocalDateTime upTo);
+
+    /**
+     * Counts a user's unread notifications created after the watermark.
+     *
+     * @param userId The ID of the user
+     * @param watermark The user's read watermark
+     * @return The number of unread notifications
+     */
+    @Query("""
+            select count(n) from Notification n
+            where n.user.id = :userId and n.createdAt > :watermark
+              and not exists (select 1 from NotificationRead r where r.notificationId = n.id)
+            """)
+    long countUnreadAfter(@Param("userId") UUID userId, @Param("watermark") LocalDateTime watermark);
+
+    /**
+     * Deletes all of a user's notifications created up to the cutoff in one statement.
+     *
+     * @param userId The ID of the user
+     * @param cutoff Notifications created after this time are kept
+     * @return The number of deleted notifications
+     */
+    @Modifying
+    @Query("delete from Notification n where n.user.id = :userId and n.createdAt <= :cutoff")
+    int deleteAllByUser(@Param("userId") UUID userId, @Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,30 @@
+package tech.project.schedule.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tech.project.schedule.model.project.ProjectDependencyState;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for the version of each project's task dependencies.
+ */
+@Repository
+public interface ProjectDependencyStateRepository extends JpaRepository<ProjectDependencyState, UUID> {
+    /**
+     * Advances the dependency version of a project, creating its row as needed, and locks
+     * the row until the end of the transaction. A concurrent change of the same project waits
+     * here until this one has committed or rolled back.
+     *
+     * @param projectId The ID of the project
+     * @return The new version
+     */
+    @Query(value = """
+            insert into project_dependency_state (project_id, version) values (:projectId, 1)
+            on conflict (project_id) do update set version = project_dependency_state.version + 1
+            returning version
+            """, nativeQuery = true)
+    long advanceVersion(@Param("projectId") UUID projectId);
+}
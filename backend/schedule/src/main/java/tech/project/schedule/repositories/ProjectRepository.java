@@ -1,6 +1,8 @@
 package tech.project.schedule.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tech.project.schedule.model.project.Project;
 
@@ -33,4 +35,21 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
      * @return true if a project with the given name exists, false otherwise
      */
     boolean existsByName(String name);
+
+    /**
+     * Checks whether a user is a member of any project managed by another user.
+     * Used to let project managers view information about their team members.
+     *
+     * @param userId The UUID of the team member
+     * @param managerId The UUID of the potential project manager
+     * @return true if both users share a project in which the second one is a PM
+     */
+    @Query("""
+            select count(p) > 0
+            from Project p join p.members manager join p.members member
+            where manager.user.id = :managerId
+              and manager.role = tech.project.schedule.model.enums.ProjectUserRole.PM
+              and member.user.id = :userId
+            """)
+    boolean isManagedBy(@Param("userId") UUID userId, @Param("managerId") UUID managerId);
 }
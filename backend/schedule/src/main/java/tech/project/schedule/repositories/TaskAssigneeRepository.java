@@ -1,9 +1,15 @@
 package tech.project.schedule.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tech.project.schedule.model.task.TaskAssignee;
+import tech.project.schedule.repositories.projections.TaskIntervalView;
+import tech.project.schedule.repositories.projections.TaskLinkView;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -42,4 +48,46 @@ public interface TaskAssigneeRepository extends JpaRepository<TaskAssignee, UUID
      */
     void deleteByTask_IdAndUser_Id(UUID taskId, UUID userId);   //
 
+    /**
+     * Retrieves the assignment IDs of many tasks in a single query.
+     * Used by listing endpoints to avoid initializing each task's assignee collection.
+     *
+     * @param taskIds The UUIDs of the tasks
+     * @return Pairs of task ID and assignment ID
+     */
+    @Query("select a.task.id as taskId, a.id as linkedId from TaskAssignee a where a.task.id in :taskIds")
+    List<TaskLinkView> findAssignmentLinks(@Param("taskIds") Collection<UUID> taskIds);
+
+    /**
+     * Retrieves the assigned user IDs of many tasks in a single query.
+     *
+     * @param taskIds The UUIDs of the tasks
+     * @return Pairs of task ID and assigned user ID
+     */
+    @Query("select a.task.id as taskId, a.user.id as linkedId from TaskAssignee a where a.task.id in :taskIds")
+    List<TaskLinkView> findAssigneeUserLinks(@Param("taskIds") Collection<UUID> taskIds);
+
+    /**
+     * Retrieves the planned intervals of the open tasks assigned to a user that overlap a time window.
+     * The status and overlap conditions match the partial GiST index created by {@code SchemaInitializer},
+     * so the query reads only the open tasks overlapping the window and checks each of them against
+     * the user's assignments; finished tasks in the user's history are never visited.
+     *
+     * @param userId The UUID of the assigned user
+     * @param from Start of the window, inclusive
+     * @param to End of the window, exclusive
+     * @return Intervals of the matching tasks
+     */
+    @Query(value = """
+            select distinct t.id as "taskId", t.startdate as "startDate", t.enddate as "endDate"
+            from task_assignees a
+            join task t on t.id = a.task_id
+            where a.user_id = :userId
+              and t.status <> 'FINISHED'
+              and tsrange(t.startdate, greatest(t.startdate, coalesce(t.enddate, t.startdate)), '[]')
+                  && tsrange(cast(:from as timestamp), cast(:to as timestamp), '[)')
+            """, nativeQuery = true)
+    List<TaskIntervalView> findOpenTaskIntervals(@Param("userId") UUID userId,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to);
 }
@@ -1,9 +1,14 @@
 package tech.project.schedule.repositories;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tech.project.schedule.dto.task.TaskCommentDTO;
 import tech.project.schedule.model.task.TaskComment;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -40,4 +45,40 @@ public interface TaskCommentRepository extends JpaRepository<TaskComment, UUID>
      * @param taskId The UUID of the task whose comments should be deleted
      */
     void deleteAllByTask_Id(UUID taskId);               //delete all comments attached to task
+
+    /**
+     * Retrieves the first page of a task's comments in chronological order, mapped directly to DTOs.
+     *
+     * @param taskId The UUID of the task
+     * @param pageable Page size holder; the offset is always zero for keyset pagination
+     * @return Comments of the first page
+     */
+    @Query("""
+            select new tech.project.schedule.dto.task.TaskCommentDTO(c.id, c.task.id, c.user.id, c.comment, c.createdAt)
+            from TaskComment c
+            where c.task.id = :taskId
+            order by c.createdAt asc, c.id asc
+            """)
+    List<TaskCommentDTO> findCommentPage(@Param("taskId") UUID taskId, Pageable pageable);
+
+    /**
+     * Retrieves the page of a task's comments that follows the given (createdAt, id) key.
+     *
+     * @param taskId The UUID of the task
+     * @param afterCreatedAt Creation time of the last comment of the previous page
+     * @param afterId ID of the last comment of the previous page
+     * @param pageable Page size holder; the offset is always zero for keyset pagination
+     * @return Comments of the requested page
+     */
+    @Query("""
+            select new tech.project.schedule.dto.task.TaskCommentDTO(c.id, c.task.id, c.user.id, c.comment, c.createdAt)
+            from TaskComment c
+            where c.task.id = :taskId
+              and (c.createdAt > :afterCreatedAt or (c.createdAt = :afterCreatedAt and c.id > :afterId))
+            order by c.createdAt asc, c.id asc
+            """)
+    List<TaskCommentDTO> findCommentPageAfter(@Param("taskId") UUID taskId,
+                                              @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                              @Param("afterId") UUID afterId,
+                                              Pageable pageable);
 }
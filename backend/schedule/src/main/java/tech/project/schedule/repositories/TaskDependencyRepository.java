@@ -1,9 +1,14 @@
 package tech.project.schedule.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tech.project.schedule.model.task.TaskDependency;
+import tech.project.schedule.repositories.projections.TaskDepthView;
+import tech.project.schedule.repositories.projections.TaskLinkView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -43,4 +48,76 @@ public interface TaskDependencyRepository extends JpaRepository<TaskDependency,
      * @return The TaskDependency entity if the relationship exists, null otherwise
      */
     TaskDependency findByTaskIdAndDependsOnTaskId(UUID taskId, UUID dependsOnTaskId);
+
+    /**
+     * Retrieves the prerequisite task IDs of many tasks in a single query.
+     * Used by listing endpoints to avoid initializing each task's dependency collection.
+     *
+     * @param taskIds The UUIDs of the dependent tasks
+     * @return Pairs of dependent task ID and prerequisite task ID
+     */
+    @Query("select d.task.id as taskId, d.dependsOnTask.id as linkedId from TaskDependency d where d.task.id in :taskIds")
+    List<TaskLinkView> findPrerequisiteLinks(@Param("taskIds") Collection<UUID> taskIds);
+
+    /**
+     * Retrieves every dependency edge of a project as (dependent task ID, prerequisite task ID) pairs.
+     * Used to build the in-memory dependency graph without loading task entities.
+     *
+     * @param projectId The UUID of the project the dependent tasks belong to
+     * @return Pairs of dependent task ID and prerequisite task ID
+     */
+    @Query("select d.task.id as taskId, d.dependsOnTask.id as linkedId from TaskDependency d where d.task.project.id = :projectId")
+    List<TaskLinkView> findProjectPrerequisiteLinks(@Param("projectId") UUID projectId);
+
+    /**
+     * Retrieves every task the given task depends on, directly or transitively, in a single recursive query.
+     * Each task is reported once with the length of its shortest dependency chain.
+     *
+     * @param taskId The UUID of the task whose prerequisites are traversed
+     * @param maxDepth The maximum number of dependency links to follow
+     * @return Prerequisite task IDs with their depth, ordered by depth
+     */
+    @Query(value = """
+            with recursive chain(task_id, depth) as (
+                select d.depends_on_task_id, 1
+                from task_dependencies d
+                where d.task_id = :taskId
+                union
+                select d.depends_on_task_id, c.depth + 1
+                from chain c
+                join task_dependencies d on d.task_id = c.task_id
+                where c.depth < :maxDepth
+            )
+            select task_id as "taskId", min(depth) as "depth"
+            from chain
+            group by task_id
+            order by 2, 1
+            """, nativeQuery = true)
+    List<TaskDepthView> findTransitivePrerequisites(@Param("taskId") UUID taskId, @Param("maxDepth") int maxDepth);
+
+    /**
+     * Retrieves every task that depends on the given task, directly or transitively, in a single recursive query.
+     * Each task is reported once with the length of its shortest dependency chain.
+     *
+     * @param taskId The UUID of the task whose dependents are traversed
+     * @param maxDepth The maximum number of dependency links to follow
+     * @return Dependent task IDs with their depth, ordered by depth
+     */
+    @Query(value = """
+            with recursive chain(task_id, depth) as (
+                select d.task_id, 1
+                from task_dependencies d
+                where d.depends_on_task_id = :taskId
+                union
+                select d.task_id, c.depth + 1
+                from chain c
+                join task_dependencies d on d.depends_on_task_id = c.task_id
+                where c.depth < :maxDepth
+            )
+            select task_id as "taskId", min(depth) as "depth"
+            from chain
+            group by task_id
+            order by 2, 1
+            """, nativeQuery = true)
+    List<TaskDepthView> findTransitiveDependents(@Param("taskId") UUID taskId, @Param("maxDepth") int maxDepth);
 }
@@ -1,9 +1,23 @@
 package tech.project.schedule.repositories;
 
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import tech.project.schedule.model.enums.TaskPriority;
+import tech.project.schedule.model.enums.TaskStatus;
 import tech.project.schedule.model.task.Task;
+import tech.project.schedule.repositories.projections.TaskScheduleRowView;
+import tech.project.schedule.repositories.projections.TaskSummaryView;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -38,4 +52,226 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
      * @return The Task with the specified ID
      */
     Task getTaskById(UUID taskId);
+
+    /**
+     * Loads a task and locks its row until the end of the transaction. Used before reading a
+     * prerequisite's status to adjust the unfinished prerequisite counters of its dependents,
+     * so that concurrent status changes and dependency edits of the same task are applied one at a time.
+     *
+     * @param taskId The UUID of the task
+     * @return The locked task, or empty if it does not exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :taskId")
+    Optional<Task> findForUpdate(@Param("taskId") UUID taskId);
+
+    /**
+     * Loads tasks and locks their rows until the end of the transaction, in ID order so that
+     * concurrent transactions locking overlapping sets of tasks do not deadlock.
+     *
+     * @param taskIds The UUIDs of the tasks
+     * @return The locked tasks that exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :taskIds order by t.id")
+    List<Task> findAllForUpdate(@Param("taskIds") Collection<UUID> taskIds);
+
+    /**
+     * Retrieves the IDs of all tasks in a project without loading the entities.
+     *
+     * @param projectId The UUID of the project
+     * @return IDs of the project's tasks
+     */
+    @Query("select t.id from Task t where t.project.id = :projectId")
+    List<UUID> findIdsByProjectId(@Param("projectId") UUID projectId);
+
+    /**
+     * Retrieves the ID of the project a task belongs to without loading or locking the task.
+     *
+     * @param taskId The UUID of the task
+     * @return The project's ID, or empty if the task does not exist
+     */
+    @Query("select t.project.id from Task t where t.id = :taskId")
+    Optional<UUID> findProjectId(@Param("taskId") UUID taskId);
+
+    /**
+     * Retrieves the dates and prerequisites of all tasks in a project in a single query.
+     * Used to build the compact task network for scheduling computations.
+     *
+     * @param projectId The UUID of the project
+     * @return One row per (task, prerequisite) pair, or per task without prerequisites
+     */
+    @Query("""
+            select t.id as taskId, t.startDate as startDate, t.endDate as endDate,
+                   d.dependsOnTask.id as prerequisiteId
+            from Task t left join t.dependencies d
+            where t.project.id = :projectId
+            """)
+    List<TaskScheduleRowView> findScheduleRows(@Param("projectId") UUID projectId);
+
+    /**
+     * Retrieves the first page of a project's tasks ordered by (startDate, id).
+     * Reads only the task columns; status and priority filters are skipped when null.
+     *
+     * @param projectId The UUID of the project
+     * @param status Optional status filter
+     * @param priority Optional priority filter
+     * @param pageable Page size holder; the offset is always zero for keyset pagination
+     * @return Task projections of the first page
+     */
+    @Query("""
+            select t.id as id, t.project.id as projectId, t.name as name, t.description as description,
+                   t.startDate as startDate, t.endDate as endDate, t.priority as priority, t.status as status,
+                   t.commentCount as commentCount, t.lastCommentAt as lastCommentAt
+            from Task t
+            where t.project.id = :projectId
+              and (:status is null or t.status = :status)
+              and (:priority is null or t.priority = :priority)
+            order by t.startDate asc, t.id asc
+            """)
+    List<TaskSummaryView> findProjectTaskPage(@Param("projectId") UUID projectId,
+                                              @Param("status") TaskStatus status,
+                                              @Param("priority") TaskPriority priority,
+                                              Pageable pageable);
+
+    /**
+     * Retrieves the page of a project's tasks that follows the given (startDate, id) key.
+     * Reads only the task columns; status and priority filters are skipped when null.
+     *
+     * @param projectId The UUID of the project
+     * @param status Optional status filter
+     * @param priority Optional priority filter
+     * @param afterStartDate Start date of the last task of the previous page
+     * @param afterId ID of the last task of the previous page
+     * @param pageable Page size holder; the offset is always zero for keyset pagination
+     * @return Task projections of the requested page
+     */
+    @Query("""
+            select t.id as id, t.project.id as projectId, t.name as name, t.description as description,
+                   t.startDate as startDate, t.endDate as endDate, t.priority as priority, t.status as status,
+                   t.commentCount as commentCount, t.lastCommentAt as lastCommentAt
+            from Task t
+            where t.project.id = :projectId
+              and (:status is null or t.status = :status)
+              and (:priority is null or t.priority = :priority)
+              and (t.startDate > :afterStartDate or (t.startDate = :afterStartDate and t.id > :afterId))
+            order by t.startDate asc, t.id asc
+            """)
+    List<TaskSummaryView> findProjectTaskPageAfter(@Param("projectId") UUID projectId,
+                                                   @Param("status") TaskStatus status,
+                                                   @Param("priority") TaskPriority priority,
+                                                   @Param("afterStartDate") LocalDateTime afterStartDate,
+                                                   @Param("afterId") UUID afterId,
+                                                   Pageable pageable);
+
+    /**
+     * Retrieves the tasks a user is assigned to, across all projects, ordered by (startDate, id).
+     * Joins through TaskAssignee and reads only the task columns, so the cost does not
+     * grow with the size of each task's child collections.
+     *
+     * @param userId The UUID of the assigned user
+     * @return Task projections of every task assigned to the user
+     */
+    @Query("""
+            select distinct t.id as id, t.project.id as projectId, t.name as name, t.description as description,
+                   t.startDate as startDate, t.endDate as endDate, t.priority as priority, t.status as status,
+                   t.commentCount as commentCount, t.lastCommentAt as lastCommentAt
+            from TaskAssignee a join a.task t
+            where a.user.id = :userId
+            order by t.startDate asc, t.id asc
+            """)
+    List<TaskSummaryView> findTasksAssignedToUser(@Param("userId") UUID userId);
+
+    /**
+     * Records a newly added comment in the task's denormalized comment statistics.
+     * Runs as a single atomic update so concurrent comments are all counted.
+     *
+     * @param taskId The UUID of the commented task
+     * @param createdAt Creation time of the new comment
+     */
+    @Modifying
+    @Query("""
+            update Task t
+            set t.commentCount = t.commentCount + 1, t.lastCommentAt = :createdAt
+            where t.id = :taskId
+            """)
+    void incrementCommentCount(@Param("taskId") UUID taskId, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Recomputes the task's denormalized comment statistics from its remaining comments.
+     * Used after comments are deleted, when the latest comment time may have changed.
+     *
+     * @param taskId The UUID of the task
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Task t
+            set t.commentCount = (select count(c) from TaskComment c where c.task.id = :taskId),
+                t.lastCommentAt = (select max(c.createdAt) from TaskComment c where c.task.id = :taskId)
+            where t.id = :taskId
+            """)
+    void refreshCommentStats(@Param("taskId") UUID taskId);
+
+    /**
+     * Retrieves the tasks of a project that are not finished and have no unfinished prerequisites.
+     * Served by the partial index on ready tasks created by {@code SchemaInitializer}.
+     *
+     * @param projectId The UUID of the project
+     * @return Task projections of the ready tasks, ordered by start date
+     */
+    @Query("""
+            select t.id as id, t.project.id as projectId, t.name as name, t.description as description,
+                   t.startDate as startDate, t.endDate as endDate, t.priority as priority, t.status as status,
+                   t.commentCount as commentCount, t.lastCommentAt as lastCommentAt
+            from Task t
+            where t.project.id = :projectId
+              and t.unfinishedDeps = 0
+              and t.status <> tech.project.schedule.model.enums.TaskStatus.FINISHED
+            order by t.startDate asc, t.id asc
+            """)
+    List<TaskSummaryView> findReadyTasksByProject(@Param("projectId") UUID projectId);
+
+    /**
+     * Retrieves the tasks assigned to a user that are not finished and have no unfinished prerequisites.
+     *
+     * @param userId The UUID of the assigned user
+     * @return Task projections of the ready tasks, ordered by start date
+     */
+    @Query("""
+            select distinct t.id as id, t.project.id as projectId, t.name as name, t.description as description,
+                   t.startDate as startDate, t.endDate as endDate, t.priority as priority, t.status as status,
+                   t.commentCount as commentCount, t.lastCommentAt as lastCommentAt
+            from TaskAssignee a join a.task t
+            where a.user.id = :userId
+              and t.unfinishedDeps = 0
+              and t.status <> tech.project.schedule.model.enums.TaskStatus.FINISHED
+            order by t.startDate asc, t.id asc
+            """)
+    List<TaskSummaryView> findReadyTasksAssignedToUser(@Param("userId") UUID userId);
+
+    /**
+     * Adjusts the unfinished prerequisite counter of a single task,
+     * e.g. when an unfinished prerequisite is added to or removed from it.
+     *
+     * @param taskId The UUID of the dependent task
+     * @param delta The change of the counter
+     */
+    @Modifying
+    @Query("update Task t set t.unfinishedDeps = t.unfinishedDeps + :delta where t.id = :taskId")
+    void adjustUnfinishedDeps(@Param("taskId") UUID taskId, @Param("delta") int delta);
+
+    /**
+     * Adjusts the unfinished prerequisite counter of every task that depends on the given task,
+     * e.g. when the task becomes finished or is reopened.
+     *
+     * @param prerequisiteId The UUID of the prerequisite task
+     * @param delta The change of the counters
+     */
+    @Modifying
+    @Query("""
+            update Task t
+            set t.unfinishedDeps = t.unfinishedDeps + :delta
+            where t.id in (select d.task.id from TaskDependency d where d.dependsOnTask.id = :prerequisiteId)
+            """)
+    void adjustUnfinishedDepsOfDependents(@Param("prerequisiteId") UUID prerequisiteId, @Param("delta") int delta);
 }
@@ -0,0 +1,112 @@
+package tech.project.schedule.repositories;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import tech.project.schedule.model.notification.UserNotificationState;
+import tech.project.schedule.repositories.projections.SequenceRangeView;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for the per-user notification state.
+ * Deliveries add to the counter and reserve sequence numbers with an atomic upsert; read and
+ * delete operations lock the user's row first, so neither overwrites the other's updates.
+ */
+@Repository
+public interface UserNotificationStateRepository extends JpaRepository<UserNotificationState, UUID> {
+    /**
+     * Returns the number of unread notifications of a user.
+     *
+     * @param userId The ID of the user
+     * @return The unread count, or empty if the user never received a notification
+     */
+    @Query("select s.unreadCount from UserNotificationState s where s.userId = :userId")
+    Optional<Integer> findUnreadCount(@Param("userId") UUID userId);
+
+    /**
+     * Reserves the next sequence numbers of each of the given users and adds the same number
+     * of unread notifications to their counters, creating their state rows as needed.
+     * Rows are locked in ID order so that concurrent deliveries to overlapping users cannot deadlock.
+     *
+     * @param userIds The IDs of the users receiving notifications
+     * @param delta The number of notifications each of them receives
+     * @return The last reserved sequence number of every user; the reserved range of a user
+     *         ends there and holds {@code delta} numbers
+     */
+    @Query(value = """
+            insert into user_notification_state (user_id, unread_count, last_sequence)
+            select u.id, :delta, :delta from users u where u.id in (:userIds) order by u.id
+            on conflict (user_id) do update
+            set unread_count = user_notification_state.unread_count + excluded.unread_count,
+                last_sequence = user_notification_state.last_sequence + excluded.last_sequence
+            returning user_id as userId, last_sequence as lastSequence
+            """, nativeQuery = true)
+    List<SequenceRangeView> reserveSequences(@Param("userIds") Collection<UUID> userIds, @Param("delta") int delta);
+
+    /**
+     * Loads a user's notification state and locks the row until the end of the transaction,
+     * so that read-state changes and concurrent deliveries to the user are applied one at a time.
+     *
+     * @param userId The ID of the user
+     * @return The locked state, or empty if the user never received a notification
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserNotificationState s where s.userId = :userId")
+    Optional<UserNotificationState> findForUpdate(@Param("userId") UUID userId);
+
+    /**
+     * Returns a user's read watermark.
+     *
+     * @param userId The ID of the user
+     * @return The watermark, or empty if the user has not marked all notifications read yet
+     */
+    @Query("select s.readWatermark from UserNotificationState s where s.userId = :userId")
+    Optional<LocalDateTime> findReadWatermark(@Param("userId") UUID userId);
+
+    /**
+     * Locks the state rows of all users whose unread counter starts before the given time,
+     * in ID order, until the end of the transaction.
+     *
+     * @param floor The time the counters' start is compared with
+     * @return The IDs of the locked users
+     */
+    @Query(value = """
+            select user_id from user_notification_state
+            where counted_since is null or counted_since < :floor
+            order by user_id
+            for update
+            """, nativeQuery = true)
+    List<UUID> lockCountersBefore(@Param("floor") LocalDateTime floor);
+
+    /**
+     * Moves the start of every unread counter that starts before the given time up to it,
+     * subtracting the unread notifications it passes from the counter. Read watermarks and
+     * individual reads are left alone. The rows must be locked first with
+     * {@link #lockCountersBefore}, so that the counts include every read committed before.
+     *
+     * @param floor The new start of the counters
+     * @return The number of users whose counter start moved
+     */
+    @Modifying
+    @Query(value = """
+            update user_notification_state s
+            set counted_since = :floor,
+                unread_count = greatest(s.unread_count - coalesce((
+                    select count(*) from notifications n
+                    where n.user_id = s.user_id
+                      and n.created_at > coalesce(greatest(s.read_watermark, s.counted_since), '-infinity'::timestamp)
+                      and n.created_at <= :floor
+                      and not exists (select 1 from notification_reads r where r.notification_id = n.id)), 0), 0)
+            where s.counted_since is null or s.counted_since < :floor
+            """, nativeQuery = true)
+    int advanceCounters(@Param("floor") LocalDateTime floor);
+}
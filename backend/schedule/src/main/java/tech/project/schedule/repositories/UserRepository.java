@@ -1,9 +1,14 @@
 package tech.project.schedule.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import tech.project.schedule.model.user.User;
+import tech.project.schedule.repositories.projections.UserDigestModeView;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
     @Repository
@@ -19,4 +24,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Optional<User> findByEmail(String email);
 
+
+    /**
+     * Returns the notification digest modes of those of the given users that exist.
+     * Lets callers reference users by ID without loading the user rows.
+     *
+     * @param ids The user IDs to look up
+     * @return One row per existing user
+     */
+    @Query("select u.id as id, u.notificationDigest as notificationDigest from User u where u.id in :ids")
+    List<UserDigestModeView> findDigestModes(@Param("ids") Collection<UUID> ids);
 }
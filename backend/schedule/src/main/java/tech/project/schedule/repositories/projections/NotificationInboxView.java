@@ -0,0 +1,37 @@
+package tech.project.schedule.repositories.projections;
+
+import tech.project.schedule.model.enums.NotificationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Projection of a notification listed in a user's inbox.
+ * The message is rendered from the template and parameters in the reader's language;
+ * a notification without a template uses the one named after its status, unless it was stored
+ * before templates were introduced and carries a message instead.
+ */
+public interface NotificationInboxView {
+    UUID getId();
+
+    NotificationStatus getStatus();
+
+    String getTemplate();
+
+    Map<String, Object> getParams();
+
+    String getMessage();
+
+    LocalDateTime getCreatedAt();
+
+    Boolean getIsRead();
+
+    Integer getCount();
+
+    Long getSeq();
+
+    UUID getUserId();
+
+    UUID getSubjectId();
+}
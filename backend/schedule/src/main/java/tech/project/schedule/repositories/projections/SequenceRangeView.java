@@ -0,0 +1,12 @@
+package tech.project.schedule.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * Projection of the sequence numbers reserved for a user's new notifications.
+ */
+public interface SequenceRangeView {
+    UUID getUserId();
+
+    Long getLastSequence();
+}
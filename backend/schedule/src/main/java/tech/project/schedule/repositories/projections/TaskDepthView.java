@@ -0,0 +1,13 @@
+package tech.project.schedule.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * Projection of a task reached by a dependency traversal
+ * together with the length of the shortest dependency chain leading to it.
+ */
+public interface TaskDepthView {
+    UUID getTaskId();
+
+    Integer getDepth();
+}
@@ -0,0 +1,16 @@
+package tech.project.schedule.repositories.projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a task's planned time interval.
+ * The end date is null for tasks without a planned end.
+ */
+public interface TaskIntervalView {
+    UUID getTaskId();
+
+    LocalDateTime getStartDate();
+
+    LocalDateTime getEndDate();
+}
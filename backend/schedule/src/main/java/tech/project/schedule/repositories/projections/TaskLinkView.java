@@ -0,0 +1,14 @@
+package tech.project.schedule.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * Projection of a single (task id, linked id) pair.
+ * Used to load the identifiers of a task's child rows (assignments, prerequisites)
+ * for a whole batch of tasks in one query.
+ */
+public interface TaskLinkView {
+    UUID getTaskId();
+
+    UUID getLinkedId();
+}
@@ -0,0 +1,19 @@
+package tech.project.schedule.repositories.projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a task's dates joined with one of its prerequisites.
+ * A task with several prerequisites yields one row per prerequisite;
+ * a task without prerequisites yields a single row with a null prerequisite ID.
+ */
+public interface TaskScheduleRowView {
+    UUID getTaskId();
+
+    LocalDateTime getStartDate();
+
+    LocalDateTime getEndDate();
+
+    UUID getPrerequisiteId();
+}
@@ -0,0 +1,34 @@
+package tech.project.schedule.repositories.projections;
+
+import tech.project.schedule.model.enums.TaskPriority;
+import tech.project.schedule.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of the scalar columns of a task.
+ * Used by listing queries that must not initialize the task's
+ * assignee, comment and dependency collections.
+ */
+public interface TaskSummaryView {
+    UUID getId();
+
+    UUID getProjectId();
+
+    String getName();
+
+    String getDescription();
+
+    LocalDateTime getStartDate();
+
+    LocalDateTime getEndDate();
+
+    TaskPriority getPriority();
+
+    TaskStatus getStatus();
+
+    int getCommentCount();
+
+    LocalDateTime getLastCommentAt();
+}
@@ -0,0 +1,15 @@
+package tech.project.schedule.repositories.projections;
+
+import tech.project.schedule.model.enums.NotificationDigestMode;
+
+import java.util.UUID;
+
+/**
+ * Projection of a user's ID and notification digest mode.
+ * Used to route a batch of notifications without loading the recipients' rows.
+ */
+public interface UserDigestModeView {
+    UUID getId();
+
+    NotificationDigestMode getNotificationDigest();
+}
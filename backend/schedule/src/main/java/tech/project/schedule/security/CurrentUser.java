@@ -0,0 +1,33 @@
+package tech.project.schedule.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import tech.project.schedule.model.enums.GlobalRole;
+import tech.project.schedule.model.enums.UserStatus;
+
+import java.util.UUID;
+
+/**
+ * The authenticated user of the current request, resolved by {@link JwtAuthenticationFilter}.
+ * Controllers receive it as a handler method argument instead of a user ID request parameter,
+ * so the requesting user always comes from the verified token and no entity is loaded for it.
+ * The role and status come from the {@link tech.project.schedule.services.UserCache}, so changes
+ * made by an admin apply without waiting for the token to expire.
+ *
+ * @param id ID of the user
+ * @param email Email address of the user, also the principal name
+ * @param globalRole System-wide role of the user
+ * @param userStatus Account status of the user
+ */
+public record CurrentUser(UUID id, String email, GlobalRole globalRole, UserStatus userStatus)
+        implements AuthenticatedPrincipal {
+
+    /**
+     * Returns the email address, the name of the authentication in Spring Security.
+     *
+     * @return The email address
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+}
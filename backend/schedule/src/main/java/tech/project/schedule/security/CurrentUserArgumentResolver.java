@@ -0,0 +1,39 @@
+package tech.project.schedule.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import tech.project.schedule.exception.ApiException;
+
+/**
+ * Resolves {@link CurrentUser} handler method arguments from the security context.
+ * A parameter annotated with {@code @Nullable} receives null for anonymous requests;
+ * otherwise such requests are rejected with 401 Unauthorized.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == CurrentUser.class;
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CurrentUser currentUser) {
+            return currentUser;
+        }
+        if (parameter.isOptional()) {
+            return null;
+        }
+        throw new ApiException("Authentication required", HttpStatus.UNAUTHORIZED);
+    }
+}
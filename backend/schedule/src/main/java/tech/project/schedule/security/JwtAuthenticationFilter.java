@@ -1,25 +1,32 @@
 package tech.project.schedule.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import tech.project.schedule.model.enums.UserStatus;
+import tech.project.schedule.services.UserCache;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Filter that intercepts HTTP requests to validate JWT authentication tokens.
  * Implements Spring Security's authentication mechanism using JSON Web Tokens.
  * This filter examines each incoming request for a valid JWT in the Authorization
  * header and establishes the security context for authenticated users.
+ * The principal of the security context is a {@link CurrentUser}, which controllers receive
+ * as a handler method argument.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -27,7 +34,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
     @Autowired
-    private UserDetailsService userDetailsService;
+    private UserCache userCache;
 
     
     /**
@@ -36,9 +43,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * The filter extracts the JWT from the Authorization header, validates it,
      * and creates a security context for the authenticated user. The process:
      * 1. Checks for a valid Authorization header with Bearer token format
-     * 2. Extracts the username from the JWT token
-     * 3. Loads the associated user details from the UserDetailsService
-     * 4. Validates the token and sets up the SecurityContext if valid
+     * 2. Verifies the JWT token once and extracts the user ID from its claims
+     * 3. Looks the user up in the UserCache
+     * 4. Sets up the SecurityContext with the user as a CurrentUser, unless the user is blocked
      * 
      * @param request The HTTP request being processed
      * @param response The HTTP response being produced
@@ -51,22 +58,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         jwt = authHeader.substring(7);
-        username = jwtUtil.extractUsername(jwt);
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtUtil.isTokenValid(jwt)) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        final Claims claims = jwtUtil.verify(jwt);
+        if (claims != null && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            findUser(claims)
+                    .filter(user -> user.email().equals(claims.getSubject()))
+                    .filter(user -> user.userStatus() != UserStatus.BLOCKED)
+                    .ifPresent(user -> {
+                        CurrentUser currentUser = new CurrentUser(user.id(), user.email(), user.globalRole(),
+                                user.userStatus());
+                        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                                currentUser, null, List.of(new SimpleGrantedAuthority(user.globalRole().name())));
+                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(authToken);
+                    });
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Looks up the user of a token by the ID claim, or by the subject for tokens without one.
+     */
+    private Optional<UserCache.CachedUser> findUser(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        if (userId == null) {
+            return userCache.findByEmail(claims.getSubject());
+        }
+        try {
+            return userCache.findById(UUID.fromString(userId));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
 }
@@ -1,21 +1,34 @@
 package tech.project.schedule.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
 /**
  * Utility class for generating, validating, and extracting information from JSON Web Tokens (JWT).
  * Handles token creation, claim extraction, and signature verification for authentication and authorization.
+ *
+ * <p>The signing key and parser are built once. Verified claims are cached by the SHA-256 hash of
+ * the token until the token expires, so a client sending the same token with every request pays
+ * for the signature check once. The cache holds at most {@code jwt.cache.max-size} tokens; when it
+ * is full, caching a token evicts the least recently used one, so expired tokens that are no longer
+ * sent make room in constant time.</p>
  */
 @Component
 public class JwtUtil {
@@ -25,14 +38,30 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private long expirationMs;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    private SecretKey signInKey;
+    private JwtParser parser;
+    // SHA-256 of the token -> its verified claims, least recently used first; guarded by itself
+    private Map<String, Claims> verifiedClaims;
+
     /**
-     * Generates the signing key used for JWT signature verification.
-     *
-     * @return Key object based on the configured secret
+     * Builds the signing key and the parser from the configured secret, and the cache of verified claims.
      */
-    private Key getSignInKey() {
+    @PostConstruct
+    void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        signInKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parser()
+                .verifyWith(signInKey)
+                .build();
+        verifiedClaims = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > cacheMaxSize;
+            }
+        };
     }
 
     /**
@@ -48,10 +77,56 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
+    /**
+     * Verifies the token and returns its claims. Tokens verified before are served from the
+     * cache as long as they have not expired.
+     *
+     * @param token the JWT token
+     * @return the verified claims, or null if the signature is invalid, the token is malformed or expired
+     */
+    public Claims verify(String token) {
+        String key = hash(token);
+        Claims claims;
+        synchronized (verifiedClaims) {
+            claims = verifiedClaims.get(key);
+            if (claims != null && !isUnexpired(claims)) {
+                verifiedClaims.remove(key);
+                return null;
+            }
+        }
+        if (claims != null) {
+            return claims;
+        }
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (claims.getExpiration() != null) {
+            synchronized (verifiedClaims) {
+                verifiedClaims.put(key, claims);
+            }
+        }
+        return claims;
+    }
+
+    private static boolean isUnexpired(Claims claims) {
+        return claims.getExpiration() == null || claims.getExpiration().after(new Date());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     /**
      * Extracts the username (subject) from the given JWT token.
      *
@@ -80,13 +155,14 @@ public class JwtUtil {
      *
      * @param token the JWT token
      * @return Claims object containing all claims from the token
+     * @throws JwtException if the token is invalid or expired
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith((SecretKey) getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = verify(token);
+        if (claims == null) {
+            throw new JwtException("Invalid or expired token");
+        }
+        return claims;
     }
 
     /**
@@ -96,11 +172,7 @@ public class JwtUtil {
      * @return true if the token is valid and not expired; false otherwise
      */
     public boolean isTokenValid(String token) {
-        try {
-            final Date expiration = extractClaim(token, Claims::getExpiration);
-            return expiration.after(new Date());
-        } catch (Exception e) {
-            return false;
-        }
+        Claims claims = verify(token);
+        return claims != null && claims.getExpiration() != null;
     }
 }
@@ -5,23 +5,24 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import tech.project.schedule.model.user.User;
-import tech.project.schedule.repositories.UserRepository;
+import tech.project.schedule.model.enums.UserStatus;
 
 /**
  * Service that bridges the application's user model with Spring Security's authentication system.
  * Implements Spring Security's UserDetailsService to provide user authentication information
  * from the application's database during the login process.
+ * Users are read through the {@link UserCache}, since every authenticated request loads its user.
  */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
-    private UserRepository userRepository;
+    private UserCache userCache;
 
     /**
      * Loads a user's security details by their email address.
      * Called by Spring Security during authentication to retrieve user information
      * and create a UserDetails object containing credentials and authorities.
+     * Blocked users are returned as locked accounts.
      * 
      * @param email The email address used as the username during login
      * @return A Spring Security UserDetails object with authentication information
@@ -29,12 +30,13 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        UserCache.CachedUser user = userCache.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
         return org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())
-                .password(user.getPassword())
-                .authorities(user.getGlobalRole().name())
+                .withUsername(user.email())
+                .password(user.password())
+                .authorities(user.globalRole().name())
+                .accountLocked(user.userStatus() == UserStatus.BLOCKED)
                 .build();
     }
 }
@@ -0,0 +1,92 @@
+package tech.project.schedule.services;
+
+import tech.project.schedule.model.enums.NotificationStatus;
+import tech.project.schedule.model.notification.NotificationContent;
+import tech.project.schedule.services.events.NotificationRequestedEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Merges repeated notification requests about the same subject.
+ * Requests are keyed on (recipient, status, subject). The first request for a key is delivered
+ * right away and opens a window; every request for that key arriving before the window closes
+ * only raises the count and replaces the content. Once the window closes the merged repeats are
+ * released and a new window opens, so a steady stream of requests yields one notification per
+ * window; a window that closes without repeats is discarded. Recipients whose merged requests
+ * ended up identical are released together as one fan-out.
+ */
+final class NotificationCoalescer {
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a request to the windows of its recipients. Recipients without an open window get
+     * one, and the request is to be delivered to them right away.
+     *
+     * @param event The request, which must have a subject
+     * @param now Current time in nanoseconds, as returned by {@link System#nanoTime()}
+     * @return The recipients to deliver the request to right away
+     */
+    List<UUID> add(NotificationRequestedEvent event, long now) {
+        List<UUID> immediate = new ArrayList<>();
+        for (UUID recipientId : event.recipientIds()) {
+            pending.compute(new Key(recipientId, event.status(), event.subjectId()), (key, current) -> {
+                if (current == null) {
+                    immediate.add(recipientId);
+                    return new Pending(now, null, 0);
+                }
+                return new Pending(current.openedAt(), event.content(), current.count() + event.count());
+            });
+        }
+        return immediate;
+    }
+
+    /**
+     * Closes the windows opened at or before the cutoff and releases their merged repeats.
+     *
+     * @param cutoff Windows opened at or before this time (in nanoseconds) are closed
+     * @param now Current time in nanoseconds, when the windows following released repeats open
+     * @param sink Receives each released request and the time its window was opened
+     */
+    void release(long cutoff, long now, BiConsumer<NotificationRequestedEvent, Long> sink) {
+        Map<Release, List<UUID>> recipients = new LinkedHashMap<>();
+        Map<Release, Long> openedAt = new LinkedHashMap<>();
+        pending.forEach((key, value) -> {
+            if (value.openedAt() - cutoff > 0) {
+                return;
+            }
+            // A request merged in the meantime replaces the value, and the key is released on the next pass
+            if (value.count() == 0) {
+                pending.remove(key, value);
+            } else if (pending.replace(key, value, new Pending(now, null, 0))) {
+                Release release = new Release(key.status(), key.subjectId(), value.content(), value.count());
+                recipients.computeIfAbsent(release, r -> new ArrayList<>()).add(key.recipientId());
+                openedAt.merge(release, value.openedAt(), (a, b) -> a - b <= 0 ? a : b);
+            }
+        });
+        recipients.forEach((release, ids) -> sink.accept(new NotificationRequestedEvent(
+                List.copyOf(ids), release.status(), release.content(), release.subjectId(), release.count()),
+                openedAt.get(release)));
+    }
+
+    /**
+     * Returns the number of (recipient, status, subject) windows currently open.
+     */
+    int size() {
+        return pending.size();
+    }
+
+    private record Key(UUID recipientId, NotificationStatus status, UUID subjectId) {
+    }
+
+    private record Pending(long openedAt, NotificationContent content, int count) {
+    }
+
+    private record Release(NotificationStatus status, UUID subjectId, NotificationContent content, int count) {
+    }
+}
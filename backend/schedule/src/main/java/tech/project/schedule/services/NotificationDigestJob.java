@@ -0,0 +1,61 @@
+package tech.project.schedule.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tech.project.schedule.model.enums.NotificationDigestMode;
+import tech.project.schedule.model.notification.Notification;
+import tech.project.schedule.services.delivery.NotificationDeliveryBus;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Scheduled job delivering notification digests.
+ * Users with the hourly digest mode receive their collected notifications at the top of every hour,
+ * users with the daily mode once a day. The hourly run also delivers entries left over by users
+ * who have since switched their digest off.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDigestJob {
+    private final NotificationService notificationService;
+    private final NotificationDeliveryBus deliveryBus;
+
+    /**
+     * Delivers the hourly digests.
+     */
+    @Scheduled(cron = "${notifications.digest.hourly-cron:0 0 * * * *}")
+    public void sendHourlyDigests() {
+        send(List.of(NotificationDigestMode.HOURLY, NotificationDigestMode.OFF));
+    }
+
+    /**
+     * Delivers the daily digests.
+     */
+    @Scheduled(cron = "${notifications.digest.daily-cron:0 0 8 * * *}")
+    public void sendDailyDigests() {
+        send(List.of(NotificationDigestMode.DAILY));
+    }
+
+    private void send(Collection<NotificationDigestMode> modes) {
+        List<Notification> digests;
+        try {
+            digests = notificationService.buildDigests(modes);
+        } catch (RuntimeException e) {
+            log.error("Failed to build notification digests for {}: {}", modes, e.getMessage());
+            return;
+        }
+        try {
+            deliveryBus.publish(digests);
+        } catch (RuntimeException e) {
+            // The digests are stored; the users will see them on the next fetch
+            log.warn("Failed to publish {} notification digests: {}", digests.size(), e.getMessage());
+        }
+        if (!digests.isEmpty()) {
+            log.info("Delivered {} notification digests for {}", digests.size(), modes);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package tech.project.schedule.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tech.project.schedule.model.notification.Notification;
+import tech.project.schedule.services.delivery.NotificationDeliveryBus;
+import tech.project.schedule.services.events.NotificationRequestedEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores and delivers notifications outside of the transactions that request them.
+ * Requests are accepted only after the requesting transaction commits and are put on a
+ * bounded in-memory queue; a notification sent to many users takes a single slot. Worker virtual
+ * threads drain the queue in batches, persist each batch in one transaction and then push the
+ * notifications to the recipients' WebSocket queues through the {@link NotificationDeliveryBus}.
+ *
+ * <p>Requests about a subject (a task, a project) first pass through a {@link NotificationCoalescer}:
+ * the first request is delivered right away, and repeated requests with the same recipient, status
+ * and subject within the coalescing window are merged into one notification, carrying the number
+ * of events and the latest message, that is delivered when the window closes.</p>
+ *
+ * <p>When the queue is full, new requests are dropped and counted rather than blocking the caller.
+ * Queue depth, open coalescing windows, delivery lag, and delivered, dropped and failed notifications
+ * are published as metrics.</p>
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final NotificationService notificationService;
+    private final NotificationDeliveryBus deliveryBus;
+    private final NotificationCoalescer coalescer = new NotificationCoalescer();
+    private final Duration coalesceWindow;
+    private final BlockingQueue<QueuedNotification> queue;
+    private final int workerCount;
+    private final int batchSize;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Counter delivered;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer lag;
+
+    public NotificationDispatcher(NotificationService notificationService,
+                                  NotificationDeliveryBus deliveryBus,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${notifications.queue.capacity:10000}") int capacity,
+                                  @Value("${notifications.workers:2}") int workerCount,
+                                  @Value("${notifications.batch-size:100}") int batchSize,
+                                  @Value("${notifications.coalesce.window:PT1M}") Duration coalesceWindow) {
+        this.notificationService = notificationService;
+        this.deliveryBus = deliveryBus;
+        this.coalesceWindow = coalesceWindow;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+
+        Gauge.builder("notifications.queue.depth", queue, BlockingQueue::size)
+                .description("Notification requests waiting to be stored and delivered")
+                .register(meterRegistry);
+        Gauge.builder("notifications.coalesce.pending", coalescer, NotificationCoalescer::size)
+                .description("Open coalescing windows, one per recipient, status and subject")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("notifications.delivered")
+                .description("Notifications stored and sent to recipients")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("notifications.dropped")
+                .description("Notifications rejected because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("notifications.failed")
+                .description("Notifications lost because their batch could not be stored")
+                .register(meterRegistry);
+        this.lag = Timer.builder("notifications.lag")
+                .description("Time from commit of the requesting transaction to delivery, including coalescing")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Accepts a requested notification once the requesting transaction has committed.
+     * Requests made outside of a transaction are accepted immediately. Requests without a subject
+     * are queued right away; requests with a subject are queued right away for the recipients
+     * without an open coalescing window and merged into the open window of the others.
+     *
+     * @param event The requested notification
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationRequested(NotificationRequestedEvent event) {
+        long now = System.nanoTime();
+        if (event.subjectId() == null || coalesceWindow.isZero()) {
+            enqueue(event, now);
+            return;
+        }
+        List<UUID> immediate = coalescer.add(event, now);
+        if (immediate.size() == event.recipientIds().size()) {
+            enqueue(event, now);
+        } else if (!immediate.isEmpty()) {
+            enqueue(new NotificationRequestedEvent(immediate, event.status(), event.content(),
+                    event.subjectId(), event.count()), now);
+        }
+    }
+
+    /**
+     * Moves the repeated requests whose coalescing window has closed to the delivery queue.
+     */
+    @Scheduled(fixedDelayString = "${notifications.coalesce.flush-interval:1000}")
+    public void releaseCoalesced() {
+        long now = System.nanoTime();
+        coalescer.release(now - coalesceWindow.toNanos(), now, this::enqueue);
+    }
+
+    private void enqueue(NotificationRequestedEvent event, long acceptedAt) {
+        if (!queue.offer(new QueuedNotification(event, acceptedAt))) {
+            dropped.increment(event.recipientIds().size());
+            log.warn("Notification queue is full, dropping notification for {} users", event.recipientIds().size());
+        }
+    }
+
+    /**
+     * Starts the worker threads.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("notification-worker-" + i).start(this::drain));
+        }
+    }
+
+    /**
+     * Releases all coalesced requests, then stops the workers once they have delivered
+     * what is already queued.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        long now = System.nanoTime();
+        coalescer.release(now, now, this::enqueue);
+        running = false;
+        long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+        for (Thread worker : workers) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !worker.join(Duration.ofNanos(remaining))) {
+                worker.interrupt();
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("{} queued notifications were not delivered before shutdown", queue.size());
+        }
+    }
+
+    /**
+     * Worker loop: waits for a request, then takes everything else that is queued up to the
+     * batch size, so that busy periods are stored with few transactions and batched inserts.
+     */
+    private void drain() {
+        List<QueuedNotification> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedNotification first = queue.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<QueuedNotification> batch) {
+        List<Notification> saved;
+        try {
+            saved = notificationService.saveNotifications(batch.stream().map(QueuedNotification::event).toList());
+        } catch (RuntimeException e) {
+            int lost = batch.stream().mapToInt(queued -> queued.event().recipientIds().size()).sum();
+            failed.increment(lost);
+            log.error("Failed to store {} notifications: {}", lost, e.getMessage());
+            return;
+        }
+        try {
+            deliveryBus.publish(saved);
+        } catch (RuntimeException e) {
+            // The notifications are stored; the users will see them on the next fetch
+            log.warn("Failed to publish {} notifications: {}", saved.size(), e.getMessage());
+        }
+        long now = System.nanoTime();
+        for (QueuedNotification queued : batch) {
+            lag.record(now - queued.acceptedAt(), TimeUnit.NANOSECONDS);
+        }
+        delivered.increment(saved.size());
+    }
+
+    /**
+     * A notification request together with the time it was accepted.
+     */
+    private record QueuedNotification(NotificationRequestedEvent event, long acceptedAt) {
+    }
+}
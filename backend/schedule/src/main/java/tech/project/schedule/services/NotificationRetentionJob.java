@@ -0,0 +1,115 @@
+package tech.project.schedule.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tech.project.schedule.repositories.NotificationPartitionRepository;
+import tech.project.schedule.repositories.UserNotificationStateRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.YearMonth;
+
+/**
+ * Scheduled job maintaining the monthly partitions of the notifications table.
+ * Creates the partitions of the coming months ahead of time, so inserts never hit a missing
+ * partition, and removes the partitions whose notifications are all older than the retention age.
+ * Expired partitions are detached and either dropped or, in archive mode, moved into a separate
+ * schema where they are kept out of the application's reads.
+ *
+ * <p>Inboxes only show the hot window by default, so notifications leaving it are taken out of
+ * their recipients' unread counters, which thus only count notifications the user sees by default.
+ * Their read state is left unchanged.</p>
+ */
+@Component
+@Slf4j
+public class NotificationRetentionJob {
+    private final NotificationPartitionRepository partitionRepository;
+    private final UserNotificationStateRepository stateRepository;
+    private final Period hotWindow;
+    private final Period maxAge;
+    private final int monthsAhead;
+    private final boolean archive;
+    private final String archiveSchema;
+
+    public NotificationRetentionJob(NotificationPartitionRepository partitionRepository,
+                                    UserNotificationStateRepository stateRepository,
+                                    @Value("${notifications.retention.hot-window:P3M}") Period hotWindow,
+                                    @Value("${notifications.retention.max-age:P12M}") Period maxAge,
+                                    @Value("${notifications.retention.months-ahead:3}") int monthsAhead,
+                                    @Value("${notifications.retention.archive:false}") boolean archive,
+                                    @Value("${notifications.retention.archive-schema:notifications_archive}") String archiveSchema) {
+        this.partitionRepository = partitionRepository;
+        this.stateRepository = stateRepository;
+        this.hotWindow = hotWindow;
+        this.maxAge = maxAge;
+        this.monthsAhead = monthsAhead;
+        this.archive = archive;
+        this.archiveSchema = archiveSchema;
+    }
+
+    /**
+     * Creates the upcoming partitions as soon as the application has started,
+     * in case it was not running when the scheduled job was due.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void onApplicationReady() {
+        createUpcomingPartitions();
+    }
+
+    /**
+     * Returns the start of the hot window, the oldest time inboxes show by default.
+     *
+     * @param hotWindow Length of the hot window
+     * @return Midnight of the first day of the hot window
+     */
+    public static LocalDateTime hotWindowStart(Period hotWindow) {
+        return LocalDate.now().minus(hotWindow).atStartOfDay();
+    }
+
+    /**
+     * Creates the upcoming partitions, takes the notifications that left the hot window out of
+     * the unread counters and expires the old partitions.
+     * Unread notifications in an expired partition are subtracted from their recipients' counters
+     * in the same transaction that detaches the partition.
+     */
+    @Scheduled(cron = "${notifications.retention.cron:0 30 3 * * *}")
+    @Transactional
+    public void applyRetention() {
+        createUpcomingPartitions();
+        LocalDateTime floor = hotWindowStart(hotWindow);
+        stateRepository.lockCountersBefore(floor);
+        int aged = stateRepository.advanceCounters(floor);
+        log.info("Unread counters now start at {}, {} counters aged", floor, aged);
+        // A partition expires once its last day is older than the retention age
+        YearMonth oldestKept = YearMonth.from(LocalDate.now().minus(maxAge));
+        for (YearMonth month : partitionRepository.findPartitionMonths()) {
+            if (!month.isBefore(oldestKept)) {
+                continue;
+            }
+            int users = partitionRepository.releaseReadState(month);
+            partitionRepository.detachPartition(month);
+            if (archive) {
+                partitionRepository.archivePartition(month, archiveSchema);
+                log.info("Archived notifications of {} into schema {}, {} unread counters adjusted",
+                        month, archiveSchema, users);
+            } else {
+                partitionRepository.dropPartition(month);
+                log.info("Dropped notifications of {}, {} unread counters adjusted", month, users);
+            }
+        }
+    }
+
+    private void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            partitionRepository.createPartition(current.plusMonths(i));
+        }
+    }
+}
@@ -1,23 +1,60 @@
 package tech.project.schedule.services;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tech.project.schedule.dto.common.CursorPageDTO;
+import tech.project.schedule.dto.mappers.NotificationMapper;
+import tech.project.schedule.dto.notification.NotificationDTO;
 import tech.project.schedule.exception.ApiException;
 import tech.project.schedule.model.enums.GlobalRole;
+import tech.project.schedule.model.enums.NotificationDigestMode;
 import tech.project.schedule.model.enums.NotificationStatus;
 import tech.project.schedule.model.notification.Notification;
+import tech.project.schedule.model.notification.NotificationContent;
+import tech.project.schedule.model.notification.NotificationDigestEntry;
+import tech.project.schedule.model.notification.UserNotificationState;
 import tech.project.schedule.model.user.User;
+import tech.project.schedule.repositories.NotificationDigestEntryRepository;
+import tech.project.schedule.repositories.NotificationReadRepository;
 import tech.project.schedule.repositories.NotificationRepository;
+import tech.project.schedule.repositories.UserNotificationStateRepository;
 import tech.project.schedule.repositories.UserRepository;
+import tech.project.schedule.repositories.projections.NotificationInboxView;
+import tech.project.schedule.repositories.projections.SequenceRangeView;
+import tech.project.schedule.repositories.projections.UserDigestModeView;
+import tech.project.schedule.services.delivery.NotificationFrameBatcher;
+import tech.project.schedule.services.delivery.NotificationStreamRegistry;
+import tech.project.schedule.services.events.NotificationRequestedEvent;
+import tech.project.schedule.services.utils.KeysetCursor;
+import tech.project.schedule.services.utils.NotificationTemplates;
 
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing user notifications throughout the application.
@@ -29,53 +66,179 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationFrameBatcher frameBatcher;
+    private final NotificationStreamRegistry streamRegistry;
     private final NotificationRepository notificationRepository;
+    private final NotificationDigestEntryRepository digestEntryRepository;
+    private final UserNotificationStateRepository stateRepository;
+    private final NotificationReadRepository readRepository;
     private final UserRepository userRepository;
+    private final NotificationTemplates templates;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Reads cover only this many recent months unless older notifications are requested
+    @Value("${notifications.retention.hot-window:P3M}")
+    private Period hotWindow;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    // Watermark of users who have never marked all notifications as read, and lower bound of
+    // reads that include notifications older than the hot window
+    private static final LocalDateTime NO_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Sends the same notification to many users at once.
+     * The request is queued as a single entry once the caller's transaction commits;
+     * all rows are then written with one batched insert and pushed to the recipients in one pass,
+     * so the number of SQL round trips does not grow with the number of recipients.
+     *
+     * @param userIds IDs of the users to notify; duplicates are notified once
+     * @param status The type of notification
+     * @param content The template and parameters of the notification
+     * @param subjectId ID of the entity the notification is about, or null if repeated
+     *                  notifications should not be coalesced
+     */
+    public void sendToUsers(Collection<UUID> userIds, NotificationStatus status, NotificationContent content,
+                            UUID subjectId) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new NotificationRequestedEvent(
+                List.copyOf(new LinkedHashSet<>(userIds)), status, content, subjectId));
+    }
 
       /**
      * Sends a notification to a user via WebSocket.
-     * Converts notification entity to a simplified payload format and
-     * delivers it to the user's specific notification queue.
+     * Converts notification entity to a DTO and adds it to the user's next frame on this node,
+     * which carries every notification pushed to the user within a few milliseconds. The message
+     * is rendered in the default language, since the recipient's language is only known per request.
      * 
      * @param userId ID of the user to receive the notification
      * @param notification The notification entity to send
      */
-    @Transactional
     public void sendNotification(UUID userId, Notification notification) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("id", notification.getId());
-        payload.put("status", notification.getStatus());
-        payload.put("message", notification.getMessage());
-        payload.put("userId", notification.getUser().getId());
-        payload.put("createdAt", notification.getCreatedAt().toString());
-        payload.put("isRead", notification.getIsRead());
-        String destination = String.format("/user/%s/queue/notifications", userId);
-        messagingTemplate.convertAndSend(destination, payload);
+        frameBatcher.add(userId, NotificationMapper.notificationToDto(notification, templates, null));
     }
 
      /**
-     * Creates and sends a notification to a specific user.
-     * Persists the notification in the database and delivers it
-     * via WebSocket if the user is currently connected.
+     * Persists a batch of requested notifications in a single transaction.
+     * Recipients are referenced by ID without loading their rows, and the JDBC batch size is
+     * raised to the number of rows, so the whole batch is sent as one batched insert.
+     * Requests for users with a digest mode are held back as digest entries instead;
+     * recipients that no longer exist are skipped.
      * 
-     * @param userId ID of the user to receive the notification
-     * @param status The type of notification being sent
-     * @param message The content of the notification
+     * @param requests The requested notifications
+     * @return The saved notifications that should be delivered now
      */
     @Transactional
-    public void sendNotificationToUser(UUID userId, NotificationStatus status, String message) {
-        User user = userRepository.findById(userId).orElseThrow(
-                () -> new ApiException("User not found", HttpStatus.NOT_FOUND)
-        );
-        Notification notification = Notification.builder()
-                .user(user)
-                .status(status)
-                .message(message)
-                .isRead(false)
-                .build();
-        Notification savedNotification = notificationRepository.save(notification);
-        sendNotification(user.getId(), savedNotification);
+    public List<Notification> saveNotifications(List<NotificationRequestedEvent> requests) {
+        Map<UUID, NotificationDigestMode> digestModes = userRepository.findDigestModes(requests.stream()
+                        .flatMap(request -> request.recipientIds().stream())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserDigestModeView::getId, UserDigestModeView::getNotificationDigest));
+        List<Notification> notifications = new ArrayList<>();
+        List<NotificationDigestEntry> digestEntries = new ArrayList<>();
+        for (NotificationRequestedEvent request : requests) {
+            for (UUID recipientId : request.recipientIds()) {
+                NotificationDigestMode mode = digestModes.get(recipientId);
+                if (mode == null) {
+                    log.warn("Skipping notification for missing user {}", recipientId);
+                } else if (mode == NotificationDigestMode.OFF) {
+                    Notification notification = Notification.builder()
+                            .user(userRepository.getReferenceById(recipientId))
+                            .status(request.status())
+                            .subjectId(request.subjectId())
+                            .count(request.count())
+                            .isRead(false)
+                            .build();
+                    notification.setContent(request.content());
+                    notifications.add(notification);
+                } else {
+                    NotificationDigestEntry entry = NotificationDigestEntry.builder()
+                            .user(userRepository.getReferenceById(recipientId))
+                            .status(request.status())
+                            .subjectId(request.subjectId())
+                            .count(request.count())
+                            .build();
+                    entry.setContent(request.content());
+                    digestEntries.add(entry);
+                }
+            }
+        }
+        if (notifications.size() + digestEntries.size() > 0) {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(notifications.size() + digestEntries.size());
+        }
+        digestEntryRepository.saveAll(digestEntries);
+        assignSequences(notifications);
+        return notificationRepository.saveAll(notifications);
+    }
+
+    /**
+     * Turns the pending digest entries of all users with the given digest modes into one
+     * digest notification per user and removes the entries.
+     * Entries about the same subject and status are merged, keeping the latest message.
+     *
+     * @param modes The digest modes whose users receive their digests now
+     * @return The saved digest notifications, to be delivered by the caller
+     */
+    @Transactional
+    public List<Notification> buildDigests(Collection<NotificationDigestMode> modes) {
+        List<NotificationDigestEntry> entries = digestEntryRepository.findByDigestModes(modes);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Map<List<Object>, DigestLine>> linesByUser = new LinkedHashMap<>();
+        for (NotificationDigestEntry entry : entries) {
+            // Entries without a subject are only merged with identical content
+            List<Object> key = List.of(entry.getStatus(),
+                    Objects.requireNonNullElse(entry.getSubjectId(), entry.getContent()));
+            linesByUser.computeIfAbsent(entry.getUser().getId(), id -> new LinkedHashMap<>())
+                    .merge(key, new DigestLine(entry.getContent(), entry.getCount()),
+                            (earlier, later) -> new DigestLine(later.content(), earlier.count() + later.count()));
+        }
+
+        List<Notification> digests = new ArrayList<>(linesByUser.size());
+        linesByUser.forEach((userId, lines) -> {
+            int total = lines.values().stream().mapToInt(DigestLine::count).sum();
+            // Every line keeps its own template, so the digest is rendered in the reader's language too
+            List<Map<String, Object>> summary = lines.values().stream()
+                    .map(line -> Map.<String, Object>of("template", line.content().template(),
+                            "params", line.content().params(), "count", line.count()))
+                    .toList();
+            digests.add(Notification.builder()
+                    .user(userRepository.getReferenceById(userId))
+                    .status(NotificationStatus.DIGEST)
+                    .params(Map.of("total", total, "lines", summary))
+                    .count(total)
+                    .isRead(false)
+                    .build());
+        });
+        digestEntryRepository.deleteAllByIdInBatch(entries.stream().map(NotificationDigestEntry::getId).toList());
+        entityManager.unwrap(Session.class).setJdbcBatchSize(digests.size());
+        assignSequences(digests);
+        return notificationRepository.saveAll(digests);
+    }
+
+    /**
+     * Changes how often a user receives notifications.
+     * Entries collected under a previous digest mode are delivered with the next hourly digest.
+     *
+     * @param user The user whose setting is changed
+     * @param mode The new digest mode
+     * @return The saved digest mode
+     */
+    @Transactional
+    public NotificationDigestMode updateDigestMode(User user, NotificationDigestMode mode) {
+        if (mode == null) {
+            throw new ApiException("Digest mode is required", HttpStatus.BAD_REQUEST);
+        }
+        user.setNotificationDigest(mode);
+        userRepository.save(user);
+        return mode;
     }
 
     /**
@@ -84,10 +247,12 @@ public class NotificationService {
      * 
      * @param currUserId ID of the user whose notifications to retrieve
      * @param authenticatedUser The user making the request
+     * @param includeOlder Whether notifications older than the hot window are included;
+     *                     archived notifications are never included
      * @return List of notifications for the specified user
      */
     @Transactional
-    public List<Notification> getUserNotifications(UUID currUserId, User authenticatedUser) {
+    public List<Notification> getUserNotifications(UUID currUserId, User authenticatedUser, boolean includeOlder) {
         boolean isAdmin = authenticatedUser.getGlobalRole() == GlobalRole.ADMIN;
 
         if(!isAdmin && !authenticatedUser.getId().equals(currUserId)) {
@@ -96,12 +261,150 @@ public class NotificationService {
         User currUser = userRepository.findById(currUserId).orElseThrow(
                 () -> new ApiException("User not found", HttpStatus.NOT_FOUND)
         );
-        return notificationRepository.findByUser(currUser);
+        List<Notification> notifications = notificationRepository.findByUserAndCreatedAtGreaterThanEqual(currUser,
+                readsSince(includeOlder));
+        LocalDateTime watermark = readWatermark(currUserId);
+        Set<UUID> readIds = readRepository.findNotificationIdsByUserId(currUserId);
+        for (Notification notification : notifications) {
+            notification.setIsRead(!notification.getCreatedAt().isAfter(watermark)
+                    || readIds.contains(notification.getId()));
+        }
+        return notifications;
+    }
+
+    /**
+     * Retrieves one page of the user's own notifications, newest first.
+     * Served from the (user_id, created_at, id) index, so the cost does not depend
+     * on how many notifications the user has received in total.
+     *
+     * @param user The user whose inbox is listed
+     * @param before Opaque cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of notifications to return, defaults to 50 and is capped at 200
+     * @param includeOlder Whether notifications older than the hot window are included;
+     *                     archived notifications are never included
+     * @param locale Language the messages are rendered in
+     * @return The page of notifications together with the cursor of the next page
+     * @throws ApiException if the cursor is invalid
+     */
+    @Transactional
+    public CursorPageDTO<NotificationDTO> getInboxPage(User user, String before, Integer limit,
+                                                       boolean includeOlder, Locale locale) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        // Fetch one extra row to learn whether another page follows
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+        KeysetCursor cursor = KeysetCursor.decode(before);
+        LocalDateTime watermark = readWatermark(user.getId());
+        LocalDateTime since = readsSince(includeOlder);
+        List<NotificationInboxView> rows = cursor == null
+                ? notificationRepository.findInboxPage(user.getId(), watermark, since, pageable)
+                : notificationRepository.findInboxPageBefore(user.getId(), watermark, since,
+                        cursor.timestamp(), cursor.id(), pageable);
+
+        List<NotificationDTO> page = rows.stream()
+                .limit(pageSize)
+                .map(row -> toDto(row, locale))
+                .toList();
+        if (rows.size() <= pageSize) {
+            return new CursorPageDTO<>(page, null);
+        }
+        NotificationDTO last = page.get(page.size() - 1);
+        return new CursorPageDTO<>(page, new KeysetCursor(last.createdAt(), last.id()).encode());
+    }
+
+    /**
+     * Opens a Server-Sent Events stream of the user's notifications on this node.
+     * Event IDs are notification sequence numbers; a client resuming after a disconnect first
+     * receives the notifications it missed. The stream is registered before the replay, and
+     * notifications delivered to it meanwhile are held back and sent after the replay,
+     * without the ones the replay already contained, so events arrive in sequence order.
+     *
+     * @param user The user receiving the stream
+     * @param lastEventId ID of the last event the client received, or null for a new stream
+     * @param locale Language the replayed messages are rendered in
+     * @return The emitter of the stream
+     * @throws ApiException if the event ID is not a sequence number
+     */
+    public SseEmitter openNotificationStream(User user, String lastEventId, Locale locale) {
+        Long afterSequence = parseSequence(lastEventId);
+        SseEmitter emitter = streamRegistry.open(user.getId(), afterSequence != null);
+        if (afterSequence != null) {
+            AtomicLong lastReplayed = new AtomicLong(afterSequence);
+            try {
+                replayNotifications(user.getId(), afterSequence, locale, page -> {
+                    streamRegistry.send(user.getId(), emitter, page);
+                    lastReplayed.set(page.get(page.size() - 1).seq());
+                });
+            } finally {
+                streamRegistry.endReplay(user.getId(), emitter, lastReplayed.get());
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Passes the notifications a user received after the given sequence number to the sink,
+     * oldest first, in pages of at most {@value #MAX_PAGE_SIZE}. Each page is read with a range
+     * scan of the user's sequence index, so a client that missed a few notifications costs only
+     * those rows.
+     *
+     * @param userId ID of the user
+     * @param afterSequence Sequence number of the last notification the client received
+     * @param locale Language the messages are rendered in
+     * @param sink Receives each page of missed notifications
+     */
+    public void replayNotifications(UUID userId, long afterSequence, Locale locale,
+                                    Consumer<List<NotificationDTO>> sink) {
+        LocalDateTime watermark = readWatermark(userId);
+        Pageable pageable = PageRequest.ofSize(MAX_PAGE_SIZE);
+        long after = afterSequence;
+        List<NotificationInboxView> rows;
+        do {
+            rows = notificationRepository.findInboxAfterSequence(userId, watermark, after, pageable);
+            if (rows.isEmpty()) {
+                return;
+            }
+            sink.accept(rows.stream().map(row -> toDto(row, locale)).toList());
+            after = rows.get(rows.size() - 1).getSeq();
+        } while (rows.size() == MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Parses a sequence number sent by a client.
+     *
+     * @param sequence The sequence number, may be null or blank
+     * @return The sequence number, or null if none was sent
+     * @throws ApiException if the value is not a non-negative number
+     */
+    public static Long parseSequence(String sequence) {
+        if (sequence == null || sequence.isBlank()) {
+            return null;
+        }
+        try {
+            long value = Long.parseLong(sequence.trim());
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new ApiException("Invalid sequence number", HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Returns the number of the user's unread notifications from the per-user counter.
+     *
+     * @param user The user whose unread notifications are counted
+     * @return The number of unread notifications
+     */
+    @Transactional
+    public int getUnreadCount(User user) {
+        return stateRepository.findUnreadCount(user.getId()).orElse(0);
     }
 
      /**
      * Marks a specific notification as read.
-     * Only the notification recipient can mark it as read.
+     * Only the notification recipient can mark it as read. A notification newer than the
+     * recipient's read watermark is recorded as an individual read; older ones are already read.
      * 
      * @param user The user performing the action
      * @param notificationId ID of the notification to mark as read
@@ -115,27 +418,41 @@ public class NotificationService {
         if(!user.getId().equals(notification.getUser().getId())) {
             throw new ApiException("You do not have permission to view notifications", HttpStatus.UNAUTHORIZED);
         }
+        stateRepository.findForUpdate(user.getId()).ifPresent(state -> {
+            if (notification.getCreatedAt().isAfter(watermarkOf(state))
+                    && readRepository.insertRead(notificationId, user.getId(), notification.getCreatedAt()) > 0
+                    && notification.getCreatedAt().isAfter(countedSinceOf(state))) {
+                state.setUnreadCount(Math.max(state.getUnreadCount() - 1, 0));
+            }
+        });
         notification.setIsRead(true);
-        notificationRepository.save(notification);
         return notification;
     }
 
     /**
-     * Marks all of a user's notifications as read.
+     * Marks all of a user's notifications up to a cutoff as read by advancing the user's
+     * read watermark, a single-row update no matter how many notifications it covers.
+     * The cutoff keeps notifications that arrive while the request is processed unread.
      * 
      * @param user The user whose notifications to mark as read
-     * @return List of updated notification entities
+     * @param before Only notifications created at or before this time are marked; defaults to now
+     * @return The number of notifications that changed from unread to read
+     * @throws ApiException if the cutoff is in the future
      */
     @Transactional
-    public List<Notification> markAllNotificationsAsRead(User user) {
-        List<Notification> notifications = notificationRepository.findByUser(user);
-        if(notifications.isEmpty()) {
-            throw new ApiException("No notifications found", HttpStatus.NOT_FOUND);
-        }
-        for(Notification notification : notifications) {
-            notification.setIsRead(true);
+    public int markAllNotificationsAsRead(User user, LocalDateTime before) {
+        LocalDateTime cutoff = cutoffOrNow(before);
+        UserNotificationState state = stateRepository.findForUpdate(user.getId()).orElse(null);
+        if (state == null || !cutoff.isAfter(watermarkOf(state))) {
+            return 0;
         }
-        return notificationRepository.saveAll(notifications);
+        state.setReadWatermark(cutoff);
+        // Individual reads at or below the watermark are now implied by it
+        readRepository.deleteUpTo(user.getId(), cutoff);
+        int unread = (int) notificationRepository.countUnreadAfter(user.getId(), later(cutoff, countedSinceOf(state)));
+        int updated = Math.max(state.getUnreadCount() - unread, 0);
+        state.setUnreadCount(unread);
+        return updated;
     }
 
      /**
@@ -154,21 +471,112 @@ public class NotificationService {
         if(!user.getId().equals(notification.getUser().getId()) && !isAdmin) {
             throw new ApiException("You do not have permission to view these notifications", HttpStatus.UNAUTHORIZED);
         }
+        UUID recipientId = notification.getUser().getId();
+        UserNotificationState state = stateRepository.findForUpdate(recipientId).orElse(null);
+        boolean readIndividually = readRepository.deleteByNotificationId(notificationId) > 0;
         notificationRepository.delete(notification);
+        if (state != null && notification.getCreatedAt().isAfter(countedSinceOf(state)) && !readIndividually) {
+            state.setUnreadCount(Math.max(state.getUnreadCount() - 1, 0));
+        }
     }
 
     /**
-     * Deletes all notifications for a user.
-     * Only the user themselves or an admin can delete a user's notifications.
+     * Deletes all of a user's notifications up to a cutoff with a bulk delete.
+     * The unread ones among them are counted first so the unread counter stays exact.
      * 
      * @param user The user whose notifications to delete
+     * @param before Only notifications created at or before this time are deleted; defaults to now
+     * @return The number of deleted notifications
+     * @throws ApiException if the cutoff is in the future
      */
     @Transactional
-    public void deleteAllNotifications(User user) {
-        List<Notification> notifications = notificationRepository.findByUser(user);
-        if(notifications.isEmpty()) {
-            throw new ApiException("No notifications found", HttpStatus.NOT_FOUND);
+    public int deleteAllNotifications(User user, LocalDateTime before) {
+        LocalDateTime cutoff = cutoffOrNow(before);
+        UserNotificationState state = stateRepository.findForUpdate(user.getId()).orElse(null);
+        if (state != null) {
+            long unread = notificationRepository.countUnread(user.getId(), countedSinceOf(state), cutoff);
+            state.setUnreadCount((int) Math.max(state.getUnreadCount() - unread, 0));
         }
-        notificationRepository.deleteAll(notifications);
+        readRepository.deleteUpTo(user.getId(), cutoff);
+        return notificationRepository.deleteAllByUser(user.getId(), cutoff);
+    }
+
+    /**
+     * Returns the lower bound of notification reads. By default only the hot window is read,
+     * which keeps queries on the most recent monthly partitions.
+     */
+    private LocalDateTime readsSince(boolean includeOlder) {
+        return includeOlder ? NO_WATERMARK : NotificationRetentionJob.hotWindowStart(hotWindow);
+    }
+
+    private LocalDateTime readWatermark(UUID userId) {
+        return stateRepository.findReadWatermark(userId).orElse(NO_WATERMARK);
+    }
+
+    private static LocalDateTime watermarkOf(UserNotificationState state) {
+        return state.getReadWatermark() == null ? NO_WATERMARK : state.getReadWatermark();
+    }
+
+    /**
+     * Returns the time after which unread notifications are in the user's counter: the later of
+     * the read watermark and the start of the hot window when the counter was last aged.
+     */
+    private static LocalDateTime countedSinceOf(UserNotificationState state) {
+        return state.getCountedSince() == null ? watermarkOf(state) : later(watermarkOf(state), state.getCountedSince());
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * Returns the cutoff of a bulk operation, never later than now. A cutoff in the future would
+     * move the read watermark past notifications that have not been created yet, so it is rejected.
+     */
+    private static LocalDateTime cutoffOrNow(LocalDateTime before) {
+        LocalDateTime now = LocalDateTime.now();
+        if (before == null) {
+            return now;
+        }
+        if (before.isAfter(now)) {
+            throw new ApiException("Cutoff must not be in the future", HttpStatus.BAD_REQUEST);
+        }
+        return before;
+    }
+
+    /**
+     * Gives each new notification the next sequence number of its recipient and adds it to the
+     * recipient's unread counter. Recipients receiving the same number of notifications share one
+     * statement, so a fan-out costs a single upsert regardless of the number of recipients.
+     * Notifications of one recipient are numbered in list order.
+     */
+    private void assignSequences(List<Notification> notifications) {
+        Map<UUID, List<Notification>> byUser = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            byUser.computeIfAbsent(notification.getUser().getId(), id -> new ArrayList<>()).add(notification);
+        }
+        Map<Integer, List<UUID>> usersByCount = new HashMap<>();
+        byUser.forEach((userId, received) -> usersByCount.computeIfAbsent(received.size(), c -> new ArrayList<>())
+                .add(userId));
+        usersByCount.forEach((count, userIds) -> {
+            for (SequenceRangeView range : stateRepository.reserveSequences(userIds, count)) {
+                long sequence = range.getLastSequence() - count;
+                for (Notification notification : byUser.get(range.getUserId())) {
+                    notification.setSeq(++sequence);
+                }
+            }
+        });
+    }
+
+    private NotificationDTO toDto(NotificationInboxView row, Locale locale) {
+        return new NotificationDTO(row.getId(), row.getStatus(),
+                templates.render(row.getStatus(), row.getTemplate(), row.getParams(), row.getMessage(), locale),
+                row.getUserId(), row.getSubjectId(), row.getCreatedAt(), row.getIsRead(), row.getCount(), row.getSeq());
+    }
+
+    /**
+     * One line of a digest: the latest content about a subject and how many events it stands for.
+     */
+    private record DigestLine(NotificationContent content, int count) {
     }
 }
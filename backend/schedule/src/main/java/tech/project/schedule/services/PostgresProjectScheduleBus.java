@@ -0,0 +1,71 @@
+package tech.project.schedule.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tech.project.schedule.services.delivery.PostgresChannelListener;
+import tech.project.schedule.services.events.ProjectTasksChangedEvent;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * Keeps the cached project schedules of several nodes sharing one PostgreSQL database consistent.
+ * Every change to a project's tasks is announced with a {@code NOTIFY} on the {@value #CHANNEL}
+ * channel, with the project ID as the payload, and every node drops the project's schedule.
+ * The announcement is sent in the transaction that changes the tasks, so the other nodes receive
+ * it once the change is committed, and never for a change that is rolled back.
+ *
+ * <p>Changes announced while a node is reconnecting its listener are missed, so the node
+ * drops all its schedules whenever it starts listening.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "notifications.delivery.bus", havingValue = "postgres")
+@Slf4j
+public class PostgresProjectScheduleBus extends PostgresChannelListener {
+    static final String CHANNEL = "project_schedule_invalidation";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectScheduleService projectScheduleService;
+
+    public PostgresProjectScheduleBus(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                      ProjectScheduleService projectScheduleService) {
+        super(dataSource, CHANNEL);
+        this.jdbcTemplate = jdbcTemplate;
+        this.projectScheduleService = projectScheduleService;
+    }
+
+    /**
+     * Announces a change to all nodes.
+     */
+    @EventListener
+    public void onProjectTasksChanged(ProjectTasksChangedEvent event) {
+        jdbcTemplate.query("select pg_notify(?, ?)", statement -> {
+            statement.setString(1, CHANNEL);
+            statement.setString(2, event.projectId().toString());
+        }, row -> {
+        });
+    }
+
+    @Override
+    protected void onListening() {
+        projectScheduleService.clear();
+    }
+
+    /**
+     * Drops the schedules of the announced projects from this node's cache.
+     */
+    @Override
+    protected void handle(PGNotification[] received) {
+        for (PGNotification notification : received) {
+            try {
+                projectScheduleService.evictLocally(UUID.fromString(notification.getParameter()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed project schedule invalidation {}", notification.getParameter());
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package tech.project.schedule.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tech.project.schedule.services.delivery.PostgresChannelListener;
+import tech.project.schedule.services.events.UserCacheEvictedEvent;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * Keeps the user caches of several nodes sharing one PostgreSQL database consistent.
+ * Every eviction is announced with a {@code NOTIFY} on the {@value #CHANNEL} channel, with
+ * {@code <user ID>:<email>} as the payload, and every node evicts the announced user from its cache.
+ * The announcement is sent in the transaction that changes the user, so the other nodes receive it
+ * once the change is committed, and never for a change that is rolled back.
+ *
+ * <p>Evictions announced while a node is reconnecting its listener are missed, so the node
+ * clears its whole cache whenever it starts listening.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "notifications.delivery.bus", havingValue = "postgres")
+@Slf4j
+public class PostgresUserCacheEvictionBus extends PostgresChannelListener {
+    static final String CHANNEL = "user_cache_eviction";
+    // Length of the user ID at the start of the payload
+    private static final int ID_LENGTH = 36;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCache userCache;
+
+    public PostgresUserCacheEvictionBus(JdbcTemplate jdbcTemplate, DataSource dataSource, UserCache userCache) {
+        super(dataSource, CHANNEL);
+        this.jdbcTemplate = jdbcTemplate;
+        this.userCache = userCache;
+    }
+
+    /**
+     * Announces an eviction to all nodes.
+     */
+    @EventListener
+    public void onUserCacheEvicted(UserCacheEvictedEvent event) {
+        String payload = event.userId() + ":" + (event.email() == null ? "" : event.email());
+        jdbcTemplate.query("select pg_notify(?, ?)", statement -> {
+            statement.setString(1, CHANNEL);
+            statement.setString(2, payload);
+        }, row -> {
+        });
+    }
+
+    @Override
+    protected void onListening() {
+        userCache.clear();
+    }
+
+    /**
+     * Evicts the announced users from this node's cache.
+     */
+    @Override
+    protected void handle(PGNotification[] received) {
+        for (PGNotification notification : received) {
+            String payload = notification.getParameter();
+            if (payload.length() <= ID_LENGTH || payload.charAt(ID_LENGTH) != ':') {
+                log.warn("Ignoring malformed user cache eviction {}", payload);
+                continue;
+            }
+            try {
+                String email = payload.substring(ID_LENGTH + 1);
+                userCache.evictLocally(UUID.fromString(payload.substring(0, ID_LENGTH)),
+                        email.isEmpty() ? null : email);
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed user cache eviction {}", payload);
+            }
+        }
+    }
+}
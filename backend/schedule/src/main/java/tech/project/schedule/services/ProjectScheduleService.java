@@ -0,0 +1,209 @@
+package tech.project.schedule.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tech.project.schedule.dto.project.ProjectScheduleDTO;
+import tech.project.schedule.dto.project.TaskScheduleDTO;
+import tech.project.schedule.exception.ApiException;
+import tech.project.schedule.model.project.Project;
+import tech.project.schedule.model.user.User;
+import tech.project.schedule.repositories.ProjectRepository;
+import tech.project.schedule.repositories.TaskRepository;
+import tech.project.schedule.services.events.ProjectTasksChangedEvent;
+import tech.project.schedule.services.graph.TaskNetwork;
+import tech.project.schedule.services.utils.GetProjectRole;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service class computing critical path schedules of projects.
+ * For every task it derives the earliest and latest start and finish times allowed
+ * by the task dependencies, the total slack and whether the task is on the critical path.
+ * Results are cached per project until tasks or dependencies of the project change;
+ * with several nodes, the changes are announced to the other nodes by {@link PostgresProjectScheduleBus}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectScheduleService {
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+
+    private final Map<UUID, CachedSchedule> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the critical path schedule of a project.
+     * Only project members can view the schedule.
+     *
+     * @param projectId ID of the project
+     * @param user The user requesting the schedule
+     * @return The schedule of every task in the project
+     * @throws ApiException if the project is not found, the user is not a member,
+     *                      or the project's dependencies contain a cycle
+     */
+    @Transactional(readOnly = true)
+    public ProjectScheduleDTO getSchedule(UUID projectId, User user) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ApiException("Project not found", HttpStatus.NOT_FOUND));
+        if (GetProjectRole.getProjectRole(user, project) == null) {
+            throw new ApiException("You are not a member of this project", HttpStatus.FORBIDDEN);
+        }
+
+        CachedSchedule cached = cache.get(projectId);
+        if (cached != null && cached.schedule() != null) {
+            return cached.schedule();
+        }
+        long version = cached == null ? 0 : cached.version();
+
+        ProjectScheduleDTO schedule = computeSchedule(projectId,
+                TaskNetwork.fromRows(taskRepository.findScheduleRows(projectId)));
+
+        // Store the result only if no change was reported while it was being computed
+        cache.compute(projectId, (id, current) -> {
+            long currentVersion = current == null ? 0 : current.version();
+            return currentVersion == version ? new CachedSchedule(version, schedule) : current;
+        });
+        return schedule;
+    }
+
+    /**
+     * Drops the cached schedule of a project once the change that affected it is committed.
+     *
+     * @param event The event identifying the changed project
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectTasksChanged(ProjectTasksChangedEvent event) {
+        evictLocally(event.projectId());
+    }
+
+    /**
+     * Drops the cached schedule of a project from this node's cache.
+     *
+     * @param projectId ID of the changed project
+     */
+    public void evictLocally(UUID projectId) {
+        cache.compute(projectId, (id, current) -> new CachedSchedule(current == null ? 1 : current.version() + 1, null));
+    }
+
+    /**
+     * Drops all cached schedules from this node's cache, e.g. after changes may have been missed.
+     */
+    public void clear() {
+        cache.replaceAll((id, current) -> new CachedSchedule(current.version() + 1, null));
+    }
+
+    /**
+     * Runs the forward and backward critical path passes over the task network.
+     * A task starts no earlier than its planned start date and no earlier than the finish
+     * of all its prerequisites; its duration is the span between its planned dates.
+     * All arithmetic is done in minutes relative to the earliest planned start.
+     */
+    private ProjectScheduleDTO computeSchedule(UUID projectId, TaskNetwork network) {
+        int size = network.size();
+        if (size == 0) {
+            return new ProjectScheduleDTO(projectId, null, null, List.of(), List.of());
+        }
+        int[] order = network.topologicalOrder();
+        if (order == null) {
+            throw new ApiException("Task dependencies of this project contain a cycle", HttpStatus.CONFLICT);
+        }
+
+        LocalDateTime base = network.startDate(0);
+        for (int i = 1; i < size; i++) {
+            if (network.startDate(i).isBefore(base)) {
+                base = network.startDate(i);
+            }
+        }
+
+        long[] duration = new long[size];
+        long[] earliestStart = new long[size];
+        long[] earliestFinish = new long[size];
+        long projectFinish = 0;
+        for (int node : order) {
+            LocalDateTime end = network.endDate(node);
+            duration[node] = end == null ? 0 : Math.max(0, ChronoUnit.MINUTES.between(network.startDate(node), end));
+            long start = ChronoUnit.MINUTES.between(base, network.startDate(node));
+            for (int i = network.predecessorStart(node); i < network.predecessorEnd(node); i++) {
+                start = Math.max(start, earliestFinish[network.predecessorAt(i)]);
+            }
+            earliestStart[node] = start;
+            earliestFinish[node] = start + duration[node];
+            projectFinish = Math.max(projectFinish, earliestFinish[node]);
+        }
+
+        long[] latestStart = new long[size];
+        long[] latestFinish = new long[size];
+        for (int k = size - 1; k >= 0; k--) {
+            int node = order[k];
+            long finish = projectFinish;
+            for (int i = network.successorStart(node); i < network.successorEnd(node); i++) {
+                finish = Math.min(finish, latestStart[network.successorAt(i)]);
+            }
+            latestFinish[node] = finish;
+            latestStart[node] = finish - duration[node];
+        }
+
+        List<TaskScheduleDTO> tasks = new ArrayList<>(size);
+        for (int node : order) {
+            long slack = latestStart[node] - earliestStart[node];
+            tasks.add(new TaskScheduleDTO(
+                    network.id(node),
+                    base.plusMinutes(earliestStart[node]),
+                    base.plusMinutes(earliestFinish[node]),
+                    base.plusMinutes(latestStart[node]),
+                    base.plusMinutes(latestFinish[node]),
+                    slack,
+                    slack == 0
+            ));
+        }
+        return new ProjectScheduleDTO(projectId, base, base.plusMinutes(projectFinish), tasks,
+                criticalPath(network, order, earliestStart, earliestFinish, latestStart, projectFinish));
+    }
+
+    /**
+     * Walks back from a critical task that finishes the project through critical prerequisites
+     * that finish exactly when their dependent starts.
+     */
+    private static List<UUID> criticalPath(TaskNetwork network, int[] order, long[] earliestStart,
+                                           long[] earliestFinish, long[] latestStart, long projectFinish) {
+        int current = -1;
+        for (int k = order.length - 1; k >= 0 && current < 0; k--) {
+            int node = order[k];
+            if (earliestFinish[node] == projectFinish && latestStart[node] == earliestStart[node]) {
+                current = node;
+            }
+        }
+        List<UUID> path = new ArrayList<>();
+        while (current >= 0) {
+            path.add(network.id(current));
+            int previous = -1;
+            for (int i = network.predecessorStart(current); i < network.predecessorEnd(current); i++) {
+                int candidate = network.predecessorAt(i);
+                if (earliestFinish[candidate] == earliestStart[current]
+                        && latestStart[candidate] == earliestStart[candidate]) {
+                    previous = candidate;
+                    break;
+                }
+            }
+            current = previous;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Cache slot of one project. The version grows with every reported change, so a schedule
+     * computed from data read before the change is never stored after it.
+     */
+    private record CachedSchedule(long version, ProjectScheduleDTO schedule) {
+    }
+}
@@ -1,6 +1,7 @@
 package tech.project.schedule.services;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import tech.project.schedule.exception.ApiException;
@@ -15,9 +16,12 @@ import tech.project.schedule.model.project.ProjectMember;
 import tech.project.schedule.model.task.Task;
 import tech.project.schedule.model.task.TaskAssignee;
 import tech.project.schedule.model.user.User;
+import tech.project.schedule.model.notification.NotificationContent;
 import tech.project.schedule.repositories.ProjectRepository;
 import tech.project.schedule.repositories.TaskRepository;
 import tech.project.schedule.repositories.TaskAssigneeRepository;
+import tech.project.schedule.services.events.ProjectTasksChangedEvent;
+import tech.project.schedule.services.graph.DependencyGraphIndex;
 import tech.project.schedule.services.utils.GetProjectRole;
 import tech.project.schedule.services.utils.NotificationHelper;
 
@@ -41,6 +45,8 @@ public class ProjectService {
     private final NotificationHelper notificationHelper;
     private final TaskRepository taskRepository;
     private final TaskAssigneeRepository taskAssigneeRepository;
+    private final DependencyGraphIndex dependencyGraphIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new project with the current user as Project Manager.
@@ -78,7 +84,7 @@ public class ProjectService {
         notificationHelper.notifyProjectMember(
             user,
             NotificationStatus.PROJECT_CREATED,
-            savedProject.getName()
+            savedProject
         );
         
         return savedProject;
@@ -135,13 +141,11 @@ public class ProjectService {
         Project savedProject = projectRepository.save(existingProject);
         
         // All project members get notified about the update
-        existingProject.getMembers().values().forEach(member -> {
-            notificationHelper.notifyProjectMember(
-                member.getUser(),
-                NotificationStatus.PROJECT_UPDATED,
-                existingProject.getName()
-            );
-        });
+        notificationHelper.notifyProjectMembers(
+            existingProject.getMembers().values().stream().map(ProjectMember::getUser).toList(),
+            NotificationStatus.PROJECT_UPDATED,
+            existingProject
+        );
         
         return savedProject;
     }
@@ -167,22 +171,17 @@ public class ProjectService {
             throw new ApiException("You cannot delete this project", HttpStatus.FORBIDDEN);
         }
         
-        // Save project name and members before deletion
-        String projectName = project.getName();
+        // Save project members before deletion
         List<User> members = project.getMembers().values().stream()
             .map(ProjectMember::getUser)
             .collect(Collectors.toList());
         
         projectRepository.deleteById(projectId);
+        dependencyGraphIndex.forget(projectId);
+        eventPublisher.publishEvent(new ProjectTasksChangedEvent(projectId));
         
         // All project members get notified about the project deletion.
-        members.forEach(member -> {
-            notificationHelper.notifyProjectMember(
-                member,
-                NotificationStatus.PROJECT_DELETED,
-                projectName
-            );
-        });
+        notificationHelper.notifyProjectMembers(members, NotificationStatus.PROJECT_DELETED, project);
     }
 
     /**
@@ -247,14 +246,15 @@ public class ProjectService {
         notificationHelper.notifyProjectMember(
             user,
             NotificationStatus.PROJECT_MEMBER_ADDED,
-            project.getName()
+            project
         );
         
         // The admin gets notified that the project member has been added successfully
         notificationHelper.notifyUser(
             principal,
             NotificationStatus.PROJECT_MEMBER_ADDED,
-            "Dodano użytkownika " + user.getUsername() + " do projektu " + project.getName()
+            NotificationContent.of("PROJECT_MEMBER_ADDED.author",
+                    "user", user.getUsername(), "project", project.getName())
         );
 
         return savedMember;
@@ -325,12 +325,13 @@ public class ProjectService {
         notificationHelper.notifyUser(
             removedUser,
             NotificationStatus.PROJECT_UPDATED, 
-            "Zostałeś usunięty z projektu " + projectName
+            NotificationContent.of("PROJECT_MEMBER_REMOVED", "project", projectName)
         );
         notificationHelper.notifyUser(
                 currentUser,
                 NotificationStatus.PROJECT_UPDATED,
-                "Usunąłeś z projektu: " + projectName + " użytkownika: "+ removedUser.getName()
+                NotificationContent.of("PROJECT_MEMBER_REMOVED.author",
+                        "project", projectName, "user", removedUser.getName())
         );
     }
 
@@ -380,13 +381,15 @@ public class ProjectService {
         notificationHelper.notifyUser(
             member.getUser(),
             NotificationStatus.PROJECT_UPDATED,
-            "Twoja rola w projekcie " + project.getName() + " została zmieniona z " + oldRole + " na " + newRole
+            NotificationContent.of("PROJECT_ROLE_CHANGED", "project", project.getName(),
+                    "oldRole", oldRole.name(), "newRole", newRole.name())
         );
 
         notificationHelper.notifyUser(
                 currentUser,
                 NotificationStatus.PROJECT_UPDATED,
-                "Aktualizowałeś rolę w projekcie " + project.getName() + " użytkownika: " + member.getUser().getName()
+                NotificationContent.of("PROJECT_ROLE_CHANGED.author",
+                        "project", project.getName(), "user", member.getUser().getName())
         );
 
         return member;
@@ -13,6 +13,7 @@ import tech.project.schedule.model.project.ProjectMember;
 import tech.project.schedule.model.task.Task;
 import tech.project.schedule.model.task.TaskAssignee;
 import tech.project.schedule.model.user.User;
+import tech.project.schedule.model.notification.NotificationContent;
 import tech.project.schedule.repositories.TaskAssigneeRepository;
 import tech.project.schedule.repositories.TaskRepository;
 import tech.project.schedule.services.utils.GetProjectRole;
@@ -150,14 +151,15 @@ public class TaskAssigneeService {
         notificationHelper.notifyUser(
             user,
             NotificationStatus.TASK_ASSIGNEE_ADDED,
-            "Pomyślnie dodano użytkownika " + userToBeAdded.getName() + " do zadania " + task.getName()
+            NotificationContent.of("TASK_ASSIGNEE_ADDED.author",
+                    "user", userToBeAdded.getName(), "task", task.getName())
         );
 
         //Notify the added user
         notificationHelper.notifyTaskAssignee(
             userToBeAdded,
             NotificationStatus.TASK_ASSIGNEE_ADDED,
-            task.getName()
+            task
         );
         
         return savedAssignee;
@@ -206,14 +208,14 @@ public class TaskAssigneeService {
         notificationHelper.notifyUser(
                 currentUser,
                 NotificationStatus.TASK_UPDATED,
-                "Usunąłeś użytkownika " + userToNotify.getName() + " z zadania."
+                NotificationContent.of("TASK_ASSIGNEE_REMOVED.author", "user", userToNotify.getName())
         );
 
         // Notify the deleted user
         notificationHelper.notifyUser(
             userToNotify,
             NotificationStatus.TASK_UPDATED,
-            "Zostałeś usunięty z zadania " + task.getName()
+            NotificationContent.of("TASK_ASSIGNEE_REMOVED", "task", task.getName())
         );
     }
 
@@ -2,8 +2,12 @@ package tech.project.schedule.services;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import tech.project.schedule.dto.common.CursorPageDTO;
+import tech.project.schedule.dto.task.TaskCommentDTO;
 import tech.project.schedule.exception.ApiException;
 import tech.project.schedule.model.enums.GlobalRole;
 import tech.project.schedule.model.enums.NotificationStatus;
@@ -12,9 +16,11 @@ import tech.project.schedule.model.project.Project;
 import tech.project.schedule.model.task.Task;
 import tech.project.schedule.model.task.TaskComment;
 import tech.project.schedule.model.user.User;
+import tech.project.schedule.model.notification.NotificationContent;
 import tech.project.schedule.repositories.TaskCommentRepository;
 import tech.project.schedule.repositories.TaskRepository;
 import tech.project.schedule.services.utils.GetProjectRole;
+import tech.project.schedule.services.utils.KeysetCursor;
 import tech.project.schedule.services.utils.NotificationHelper;
 import tech.project.schedule.services.utils.PmAndAssigneeCheck;
 
@@ -31,6 +37,9 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 public class TaskCommentService {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final TaskCommentRepository taskCommentRepository;
     private final TaskRepository taskRepository;
     private final NotificationHelper notificationHelper;
@@ -54,11 +63,9 @@ public class TaskCommentService {
         }
         comment.setTask(task);
         comment.setUser(user);
-        task.getComments().add(comment);
 
         comment = taskCommentRepository.save(comment);
-
-        taskRepository.save(task);
+        taskRepository.incrementCommentCount(taskId, comment.getCreatedAt());
         
         // Powiadom wszystkich przypisanych użytkowników o nowym komentarzu
         task.getAssignees().forEach(assignee -> {
@@ -66,7 +73,7 @@ public class TaskCommentService {
                 notificationHelper.notifyTaskAssignee(
                         assignee.getUser(),
                         NotificationStatus.TASK_COMMENT_ADDED,
-                        task.getName()
+                        task
                 );
             }
         });
@@ -74,7 +81,7 @@ public class TaskCommentService {
         notificationHelper.notifyUser(
                 user,
                 NotificationStatus.TASK_COMMENT_ADDED,
-                "Dodano komentarz do " + task.getName() + "."
+                NotificationContent.of("TASK_COMMENT_ADDED.author", "task", task.getName())
         );
         
         return comment;
@@ -95,6 +102,7 @@ public class TaskCommentService {
                 .orElseThrow(() -> new ApiException("Task not found.", HttpStatus.NOT_FOUND));
 
         TaskComment comment = taskCommentRepository.findById(commentId)
+                .filter(found -> found.getTask().getId().equals(taskId))
                 .orElseThrow(() -> new ApiException("Comment not found.", HttpStatus.NOT_FOUND));
         if(PmAndAssigneeCheck.checkIfNotPmAndAssignee(taskId,user)){
             throw new ApiException("You are not allowed to delete this comment", HttpStatus.FORBIDDEN);
@@ -103,13 +111,13 @@ public class TaskCommentService {
         // Zapisz informacje o autorze komentarza
         User commentAuthor = comment.getUser();
         
-        task.getComments().remove(comment);
-        taskRepository.save(task);
+        taskCommentRepository.delete(comment);
+        taskRepository.refreshCommentStats(taskId);
 
         notificationHelper.notifyUser(
             commentAuthor,
             NotificationStatus.TASK_COMMENT_DELETED,
-            "Twój komentarz w zadaniu " + task.getName() + " został usunięty"
+            NotificationContent.of("TASK_COMMENT_DELETED.author", "task", task.getName())
         );
         
         // Powiadom wszystkich przypisanych użytkowników
@@ -120,7 +128,7 @@ public class TaskCommentService {
                 notificationHelper.notifyTaskAssignee(
                     assignee.getUser(),
                     NotificationStatus.TASK_COMMENT_DELETED,
-                    task.getName()
+                    task
                 );
             }
         });
@@ -143,27 +151,30 @@ public class TaskCommentService {
         }
         
         taskCommentRepository.deleteAllByTask_Id(taskId);
+        taskRepository.refreshCommentStats(taskId);
         
         // Powiadom wszystkich przypisanych użytkowników
         task.getAssignees().forEach(assignee -> {
             notificationHelper.notifyUser(
                 assignee.getUser(),
                 NotificationStatus.TASK_COMMENT_DELETED,
-                "Wszystkie komentarze w zadaniu " + task.getName() + " zostały usunięte"
+                NotificationContent.of("TASK_COMMENT_DELETED.all", "task", task.getName())
             );
         });
     }
 
     /**
-     * Retrieves all comments for a specific task.
+     * Retrieves one page of a task's comments, ordered by creation time.
      * Only administrators and project members can view task comments.
      *
      * @param taskId The ID of the task
      * @param user The user requesting the comments
-     * @return List of comments for the specified task
-     * @throws ApiException if task not found or user lacks permission
+     * @param after Opaque cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of comments to return, defaults to 50 and is capped at 200
+     * @return The page of comments together with the cursor of the next page
+     * @throws ApiException if task not found, user lacks permission, or the cursor is invalid
      */
-    public List<TaskComment> getCommentsForTask(UUID taskId, User user) {
+    public CursorPageDTO<TaskCommentDTO> getCommentPageForTask(UUID taskId, User user, String after, Integer limit) {
         boolean isAdmin = user.getGlobalRole() == GlobalRole.ADMIN;
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ApiException("Task not found", HttpStatus.NOT_FOUND));
@@ -171,7 +182,21 @@ public class TaskCommentService {
         if(!isAdmin&&!isInProject){
             throw new ApiException("You are not allowed to view comments", HttpStatus.FORBIDDEN);
         }
-        return taskCommentRepository.findAllByTask_Id(taskId);
+
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        // Fetch one extra row to learn whether another page follows
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<TaskCommentDTO> rows = cursor == null
+                ? taskCommentRepository.findCommentPage(taskId, pageable)
+                : taskCommentRepository.findCommentPageAfter(taskId, cursor.timestamp(), cursor.id(), pageable);
+
+        if (rows.size() <= pageSize) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<TaskCommentDTO> page = rows.subList(0, pageSize);
+        TaskCommentDTO last = page.get(page.size() - 1);
+        return new CursorPageDTO<>(page, new KeysetCursor(last.createdAt(), last.id()).encode());
     }
 
     /**
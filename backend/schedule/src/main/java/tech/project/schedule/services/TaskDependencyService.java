@@ -1,19 +1,27 @@
 package tech.project.schedule.services;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import tech.project.schedule.dto.task.TransitiveDependencyDTO;
 import tech.project.schedule.exception.ApiException;
 import tech.project.schedule.model.enums.NotificationStatus;
+import tech.project.schedule.model.enums.TaskStatus;
 import tech.project.schedule.model.task.Task;
 import tech.project.schedule.model.task.TaskDependency;
 import tech.project.schedule.model.user.User;
+import tech.project.schedule.model.notification.NotificationContent;
 import tech.project.schedule.repositories.TaskDependencyRepository;
 import tech.project.schedule.repositories.TaskRepository;
+import tech.project.schedule.repositories.projections.TaskDepthView;
+import tech.project.schedule.services.events.ProjectTasksChangedEvent;
+import tech.project.schedule.services.graph.DependencyGraphIndex;
 import tech.project.schedule.services.utils.NotificationHelper;
 import tech.project.schedule.services.utils.PmAndAssigneeCheck;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,25 +39,33 @@ public class TaskDependencyService {
     private final TaskRepository taskRepository;
     private final TaskDependencyRepository taskDependencyRepository;
     private final NotificationHelper notificationHelper;
+    private final DependencyGraphIndex dependencyGraphIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_TRANSITIVE_DEPTH = 100;
 
     /**
      * Creates a new dependency relationship between two tasks.
      * Establishes that one task (dependsOnTask) must be completed before another (task).
      * Only project managers and users assigned to the task can add dependencies.
+     * Both tasks must belong to the same project and the new dependency must not close a cycle.
      *
      * @param taskId The ID of the dependent task (the one that needs to wait)
      * @param dependencyId The ID of the prerequisite task (the one that must be completed first)
      * @param user The user attempting to create the dependency
-     * @throws ApiException if tasks not found, user lacks permission, or dependency already exists
+     * @throws ApiException if tasks not found, user lacks permission, dependency already exists,
+     *                      or the dependency would create a cycle
      */
     @Transactional
     public void addDependency(UUID taskId, UUID dependencyId, User user) {
+        lockProjectOf(taskId);
+        // Locked first, so that the prerequisite's status cannot change before its counter contribution is recorded
+        Task dependsOnTask = taskRepository.findForUpdate(dependencyId)
+                .orElseThrow(() -> new ApiException("Dependency task not found", HttpStatus.NOT_FOUND));
+
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ApiException("Task not found", HttpStatus.NOT_FOUND));
 
-        Task dependsOnTask = taskRepository.findById(dependencyId)
-                .orElseThrow(() -> new ApiException("Dependency task not found", HttpStatus.NOT_FOUND));
-
         TaskDependency existingDependency = taskDependencyRepository
                 .findByTaskIdAndDependsOnTaskId(taskId, dependencyId);
 
@@ -61,6 +77,8 @@ public class TaskDependencyService {
             throw new ApiException("Dependency already exists", HttpStatus.BAD_REQUEST);
         }
 
+        assertAcyclic(task, dependsOnTask);
+
         TaskDependency taskDependency = new TaskDependency();
         taskDependency.setTask(task);
         taskDependency.setDependsOnTask(dependsOnTask);
@@ -68,12 +86,17 @@ public class TaskDependencyService {
         task.getDependencies().add(taskDependency);
 
         taskDependencyRepository.save(taskDependency);
+        if (dependsOnTask.getStatus() != TaskStatus.FINISHED) {
+            taskRepository.adjustUnfinishedDeps(taskId, 1);
+        }
+        eventPublisher.publishEvent(new ProjectTasksChangedEvent(task.getProject().getId()));
         
         // Powiadom osobę dodającą zależność
         notificationHelper.notifyUser(
             user,
             NotificationStatus.TASK_DEPENDENCY_ADDED,
-            "Dodano zależność: zadanie " + task.getName() + " zależy teraz od zadania " + dependsOnTask.getName()
+            NotificationContent.of("TASK_DEPENDENCY_ADDED.author",
+                    "task", task.getName(), "dependsOn", dependsOnTask.getName())
         );
         
         // Powiadom przypisanych użytkowników zadania
@@ -83,7 +106,7 @@ public class TaskDependencyService {
                 notificationHelper.notifyTaskAssignee(
                     assignee.getUser(),
                     NotificationStatus.TASK_DEPENDENCY_ADDED,
-                    task.getName()
+                    task
                 );
             }
         });
@@ -100,7 +123,12 @@ public class TaskDependencyService {
      */
     @Transactional
     public void removeDependency(UUID taskId, UUID dependencyId, User user) {
+        lockProjectOf(taskId);
 
+        // Locked before the dependency is loaded, so that the prerequisite's status read below
+        // is current and cannot change before the counter is adjusted
+        Task dependsOnTask = taskRepository.findForUpdate(dependencyId)
+                .orElseThrow(() -> new ApiException("Dependency not found", HttpStatus.NOT_FOUND));
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ApiException("Task not found", HttpStatus.NOT_FOUND));
 
@@ -116,48 +144,62 @@ public class TaskDependencyService {
         }
 
         // Zapisz nazwę zadania zależnego przed usunięciem
-        String dependencyTaskName = taskDependency.getDependsOnTask().getName();
+        String dependencyTaskName = dependsOnTask.getName();
+        boolean dependencyUnfinished = dependsOnTask.getStatus() != TaskStatus.FINISHED;
 
         task.getDependencies().remove(taskDependency);
         taskRepository.save(task);
         taskDependencyRepository.delete(taskDependency);
+        dependencyGraphIndex.removeDependency(task.getProject().getId(), taskId, dependencyId);
+        if (dependencyUnfinished) {
+            taskRepository.adjustUnfinishedDeps(taskId, -1);
+        }
+        eventPublisher.publishEvent(new ProjectTasksChangedEvent(task.getProject().getId()));
         
         // Powiadom przypisanych użytkowników o usunięciu zależności
         task.getAssignees().forEach(assignee -> {
             notificationHelper.notifyUser(
                 assignee.getUser(),
                 NotificationStatus.TASK_DEPENDENCY_DELETED,
-                "Usunięto zależność pomiędzy zadaniami: " + task.getName() + " i " + dependencyTaskName
+                NotificationContent.of("TASK_DEPENDENCY_DELETED.between",
+                        "task", task.getName(), "dependsOn", dependencyTaskName)
             );
         });
 
         notificationHelper.notifyUser(
                 user,
                 NotificationStatus.TASK_DEPENDENCY_DELETED,
-                "Usunięto zależność pomiędzy zadaniami: " + task.getName() + " i " + dependencyTaskName
+                NotificationContent.of("TASK_DEPENDENCY_DELETED.between",
+                        "task", task.getName(), "dependsOn", dependencyTaskName)
         );
     }
 
     /**
      * Updates an existing task dependency with a new prerequisite task.
      * Only project managers and users assigned to the task can update dependencies.
+     * The new prerequisite must belong to the same project and must not close a cycle.
      *
      * @param taskId The ID of the dependent task
      * @param oldDependencyId The ID of the current prerequisite task to be replaced
      * @param newDependencyId The ID of the new prerequisite task to use as replacement
      * @param user The user attempting to update the dependency
-     * @throws ApiException if tasks not found, dependency not found, or user lacks permission
+     * @throws ApiException if tasks not found, dependency not found, user lacks permission,
+     *                      or the new dependency would create a cycle
      */
     @Transactional
     public void updateTaskDependency(UUID taskId, UUID oldDependencyId, UUID newDependencyId, User user) {
+        lockProjectOf(taskId);
+        // Lock both prerequisites before anything loads them, so that their statuses
+        // are current and cannot change before the counter is adjusted
+        Task newDependencyTask = taskRepository.findAllForUpdate(List.of(oldDependencyId, newDependencyId)).stream()
+                .filter(candidate -> candidate.getId().equals(newDependencyId))
+                .findFirst()
+                .orElseThrow(() -> new ApiException("New dependency task not found", HttpStatus.NOT_FOUND));
+
         // Find the task that has dependencies
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ApiException("Task not found", HttpStatus.NOT_FOUND));
                 
-        // Find the new dependency task
-        Task newDependencyTask = taskRepository.findById(newDependencyId)
-                .orElseThrow(() -> new ApiException("New dependency task not found", HttpStatus.NOT_FOUND));
-                
         // Find the existing dependency relationship
         TaskDependency taskDependency = taskDependencyRepository
                 .findByTaskIdAndDependsOnTaskId(taskId, oldDependencyId);
@@ -178,18 +220,27 @@ public class TaskDependencyService {
         
         // Zapisz nazwy zadań przed aktualizacją
         String oldDependencyName = taskDependency.getDependsOnTask().getName();
+        boolean oldDependencyUnfinished = taskDependency.getDependsOnTask().getStatus() != TaskStatus.FINISHED;
+
+        dependencyGraphIndex.removeDependency(task.getProject().getId(), taskId, oldDependencyId);
+        assertAcyclic(task, newDependencyTask);
         
         // Replace the old dependency with the new one
         taskDependency.setDependsOnTask(newDependencyTask);
         taskDependencyRepository.save(taskDependency);
+        int delta = (newDependencyTask.getStatus() != TaskStatus.FINISHED ? 1 : 0) - (oldDependencyUnfinished ? 1 : 0);
+        if (delta != 0) {
+            taskRepository.adjustUnfinishedDeps(taskId, delta);
+        }
+        eventPublisher.publishEvent(new ProjectTasksChangedEvent(task.getProject().getId()));
         
         // Powiadom przypisanych użytkowników o aktualizacji zależności
         task.getAssignees().forEach(assignee -> {
             notificationHelper.notifyUser(
                 assignee.getUser(),
                 NotificationStatus.TASK_DEPENDENCY_UPDATED,
-                "Zaktualizowano zależność dla zadania " + task.getName() + ": teraz zależy od " +
-                newDependencyTask.getName() + " (wcześniej: " + oldDependencyName + ")"
+                NotificationContent.of("TASK_DEPENDENCY_UPDATED.changed", "task", task.getName(),
+                        "dependsOn", newDependencyTask.getName(), "previous", oldDependencyName)
             );
         });
     }
@@ -220,4 +271,67 @@ public class TaskDependencyService {
         
         return dependencies;
     }
+
+    /**
+     * Retrieves the tasks reachable from a task by following dependencies transitively.
+     * Direction "up" follows prerequisites, direction "down" follows dependent tasks.
+     * Only project managers and users assigned to the task can view dependencies.
+     *
+     * @param taskId The ID of the task to start from
+     * @param user The user requesting the dependencies
+     * @param direction Either "up" or "down"
+     * @param maxDepth Maximum number of dependency links to follow, defaults to and is capped at 100
+     * @return The reached tasks with the length of their shortest dependency chain, ordered by depth
+     * @throws ApiException if task not found, user lacks permission or the direction is invalid
+     */
+    @Transactional(readOnly = true)
+    public List<TransitiveDependencyDTO> getTransitiveDependencies(UUID taskId, User user, String direction, Integer maxDepth) {
+        if (PmAndAssigneeCheck.checkIfNotPmAndAssignee(taskId, user)) {
+            throw new ApiException("You are not allowed to view dependencies", HttpStatus.FORBIDDEN);
+        }
+
+        int depth = maxDepth == null ? MAX_TRANSITIVE_DEPTH : Math.min(Math.max(maxDepth, 1), MAX_TRANSITIVE_DEPTH);
+        List<TaskDepthView> rows = switch (direction) {
+            case "up" -> taskDependencyRepository.findTransitivePrerequisites(taskId, depth);
+            case "down" -> taskDependencyRepository.findTransitiveDependents(taskId, depth);
+            default -> throw new ApiException("Direction must be either 'up' or 'down'", HttpStatus.BAD_REQUEST);
+        };
+        return rows.stream()
+                .map(row -> new TransitiveDependencyDTO(row.getTaskId(), row.getDepth()))
+                .toList();
+    }
+
+    /**
+     * Starts a change to the dependencies of a task's project, so that dependency changes of the
+     * project are applied one at a time and checked against its committed dependencies.
+     * Comes before any task is locked.
+     *
+     * @param taskId The ID of the dependent task
+     * @throws ApiException if the task does not exist
+     */
+    private void lockProjectOf(UUID taskId) {
+        UUID projectId = taskRepository.findProjectId(taskId)
+                .orElseThrow(() -> new ApiException("Task not found", HttpStatus.NOT_FOUND));
+        dependencyGraphIndex.lockProject(projectId);
+    }
+
+    /**
+     * Checks a new dependency against the project's dependency graph and records it there.
+     * The graph is restored automatically if the surrounding transaction rolls back.
+     *
+     * @param task The dependent task
+     * @param dependsOnTask The prerequisite task
+     * @throws ApiException if the tasks belong to different projects, are the same task,
+     *                      or the dependency would create a cycle
+     */
+    private void assertAcyclic(Task task, Task dependsOnTask) {
+        if (task.getId().equals(dependsOnTask.getId())) {
+            throw new ApiException("A task cannot depend on itself", HttpStatus.BAD_REQUEST);
+        }
+        UUID projectId = task.getProject().getId();
+        if (!projectId.equals(dependsOnTask.getProject().getId())) {
+            throw new ApiException("Dependent tasks must belong to the same project", HttpStatus.BAD_REQUEST);
+        }
+        dependencyGraphIndex.addDependency(projectId, task.getId(), dependsOnTask.getId());
+    }
 }
@@ -3,32 +3,56 @@ package tech.project.schedule.services;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tech.project.schedule.dto.common.BatchItemErrorDTO;
+import tech.project.schedule.dto.common.CursorPageDTO;
+import tech.project.schedule.dto.mappers.TaskMapper;
+import tech.project.schedule.dto.task.TaskDTO;
 import tech.project.schedule.exception.ApiException;
+import tech.project.schedule.exception.BatchValidationException;
 import tech.project.schedule.model.enums.GlobalRole;
 import tech.project.schedule.model.enums.NotificationStatus;
 import tech.project.schedule.model.enums.ProjectUserRole;
+import tech.project.schedule.model.enums.TaskPriority;
 import tech.project.schedule.model.enums.TaskStatus;
 import tech.project.schedule.model.project.Project;
 import tech.project.schedule.model.project.ProjectMember;
 import tech.project.schedule.model.task.Task;
 import tech.project.schedule.model.task.TaskAssignee;
 import tech.project.schedule.model.user.User;
+import tech.project.schedule.model.notification.NotificationContent;
+import tech.project.schedule.repositories.TaskDependencyRepository;
 import tech.project.schedule.repositories.UserRepository;
+import tech.project.schedule.repositories.projections.TaskLinkView;
+import tech.project.schedule.repositories.projections.TaskSummaryView;
+import tech.project.schedule.services.events.ProjectTasksChangedEvent;
+import tech.project.schedule.services.graph.DependencyGraphIndex;
+import tech.project.schedule.services.graph.TaskNetwork;
 import tech.project.schedule.services.utils.GetProjectRole;
+import tech.project.schedule.services.utils.KeysetCursor;
 import tech.project.schedule.services.utils.NotificationHelper;
 import tech.project.schedule.utils.UserUtils;
 import tech.project.schedule.repositories.TaskAssigneeRepository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 import tech.project.schedule.repositories.ProjectRepository;
@@ -45,11 +69,17 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final TaskAssigneeRepository taskAssigneeRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final DependencyGraphIndex dependencyGraphIndex;
+    private final ApplicationEventPublisher eventPublisher;
     private final UserRepository userRepository;
     private final NotificationHelper notificationHelper;
     private final GoogleCalendarService calendarService;
     
     private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BATCH_SIZE = 500;
 
     /**
      * Creates a new task within a project.
@@ -81,15 +111,14 @@ public class TaskService {
         Task newTask = taskRepository.save(task);
         project.getTasks().add(newTask);
         projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectTasksChangedEvent(project.getId()));
         
         // Notify project members that a new task has been created
-        project.getMembers().values().forEach(member -> {
-            notificationHelper.notifyUser(
-                member.getUser(),
-                NotificationStatus.TASK_UPDATED,
-                "Utworzono nowe zadanie: " + task.getName() + " w projekcie " + project.getName()
-            );
-        });
+        notificationHelper.notifyUsers(
+            project.getMembers().values().stream().map(ProjectMember::getUser).toList(),
+            NotificationStatus.TASK_UPDATED,
+            NotificationContent.of("TASK_CREATED", "task", task.getName(), "project", project.getName())
+        );
         
         return newTask;
     }
@@ -98,15 +127,20 @@ public class TaskService {
      * Updates an existing task.
      * Only project managers and task assignees can update tasks.
      * Validates business rules like date constraints.
+     * In cascade mode, tasks that depend on the updated task (directly or transitively)
+     * and would now start before a prerequisite finishes are shifted forward, keeping their duration.
      * 
      * @param updatedTask Task with updated fields
      * @param taskId ID of the task to update
      * @param user User performing the update
+     * @param cascade Whether dependent tasks should be shifted forward
      * @return The updated task entity
+     * @throws ApiException if a shifted task would end after the project end date
      */
     @Transactional
-    public Task updateTask(UUID taskId, Task updatedTask, User user) {
-        Task existingTask = taskRepository.findById(taskId)
+    public Task updateTask(UUID taskId, Task updatedTask, User user, boolean cascade) {
+        // Locked, so that a concurrent status change cannot adjust the dependents' counters twice
+        Task existingTask = taskRepository.findForUpdate(taskId)
                 .orElseThrow(() -> new ApiException("Task not found", HttpStatus.NOT_FOUND));
         
         // Check permissions
@@ -155,30 +189,7 @@ public class TaskService {
         // Handle calendar events when task dates change
         boolean datesChanged = (updatedTask.getStartDate() != null || updatedTask.getEndDate() != null);
         if (datesChanged && existingTask.getCalendarEventId() != null) {
-            try {
-                // Update the main calendar event for this task using service account
-                LocalDateTime startDateTime = existingTask.getStartDate();
-                LocalDateTime endDateTime = existingTask.getEndDate() != null ? 
-                    existingTask.getEndDate() :
-                    existingTask.getStartDate();
-                
-                ZonedDateTime startZoned = startDateTime.atZone(ZoneId.of("Europe/Warsaw"));
-                ZonedDateTime endZoned = endDateTime.atZone(ZoneId.of("Europe/Warsaw"));
-                
-                String summary = existingTask.getName() + " (" + existingTask.getProject().getName() + ")"; 
-                
-                // Get current event to preserve description with assignees
-                calendarService.updateEventWithServiceAccount(
-                    existingTask.getCalendarEventId(),
-                    summary,
-                    startZoned,
-                    endZoned
-                );
-                
-                log.info("Updated calendar event {} for task {}", existingTask.getCalendarEventId(), existingTask.getName());
-            } catch (Exception e) {
-                log.error("Failed to update calendar event: {}", e.getMessage());
-            }
+            updateCalendarEvent(existingTask);
         }
 
         if (updatedTask.getStatus() != null) {
@@ -192,64 +203,494 @@ public class TaskService {
                 existingTask.setEndDate(null);
             }
             existingTask.setStatus(updatedTask.getStatus());
+            if (wasCompleted != isNowCompleted) {
+                taskRepository.adjustUnfinishedDepsOfDependents(taskId, isNowCompleted ? -1 : 1);
+            }
             
             // Handle calendar events when task is completed
             if (!wasCompleted && isNowCompleted) {
                 // Remove calendar event for the task when it is completed
                 if (existingTask.getCalendarEventId() != null) {
-                    try {
-                        calendarService.deleteEventWithServiceAccount(existingTask.getCalendarEventId());
-                        existingTask.setCalendarEventId(null);
-                        
-                        // Clear calendar event IDs from all assignees
-                        existingTask.getAssignees().forEach(assignee -> {
-                            assignee.setCalendarEventId(null);
-                            taskAssigneeRepository.save(assignee);
-                        });
-                    } catch (Exception e) {
-                        log.error("Failed to delete calendar event: {}", e.getMessage());
-                    }
+                    removeCalendarEvent(existingTask);
                 }
 
             // Notify the person who updated the task
             notificationHelper.notifyUser(
                     user,
                     NotificationStatus.TASK_COMPLETED,
-                    "Zadanie o nazwie " + existingTask.getName()+ " został zakończone."
+                    NotificationContent.of("TASK_COMPLETED.author", "task", existingTask.getName())
             );
             // Notify all assignees
-            existingTask.getAssignees().forEach(assignee -> {
-                notificationHelper.notifyTaskAssignee(
-                    assignee.getUser(),
-                    NotificationStatus.TASK_COMPLETED,
-                    existingTask.getName()
-                );
-            });
+            notificationHelper.notifyTaskAssignees(
+                existingTask.getAssignees().stream().map(TaskAssignee::getUser).toList(),
+                NotificationStatus.TASK_COMPLETED,
+                existingTask
+            );
             }
         }
         
         Task savedTask = taskRepository.save(existingTask);
+        if (cascade && datesChanged) {
+            shiftDependentTasks(savedTask);
+        }
+        eventPublisher.publishEvent(new ProjectTasksChangedEvent(existingTask.getProject().getId()));
 
         // Notify user about task update
         notificationHelper.notifyUser(
                 user,
                 NotificationStatus.TASK_UPDATED,
-                "Zadanie o nazwie " + updatedTask.getName() + " zostało zaktualizowane."
+                NotificationContent.of("TASK_UPDATED.author", "task", updatedTask.getName()),
+                existingTask.getId()
         );
 
         // Notify assignees about task update
-        existingTask.getAssignees().forEach(assignee -> {
-            if (assignee.getUser() != user) {
-                notificationHelper.notifyTaskAssignee(
-                        assignee.getUser(),
-                        NotificationStatus.TASK_UPDATED,
-                        existingTask.getName()
-                );
-            }
-        });
+        notificationHelper.notifyTaskAssignees(
+                existingTask.getAssignees().stream()
+                        .map(TaskAssignee::getUser)
+                        .filter(assignee -> assignee != user)
+                        .toList(),
+                NotificationStatus.TASK_UPDATED,
+                existingTask
+        );
         return savedTask;
     }
 
+    /**
+     * Shifts the tasks that depend on the given task forward so that none of them starts
+     * before all of its prerequisites have finished. Tasks are visited in topological order
+     * over the project's task network; only tasks whose dates actually change are loaded,
+     * and they are written back together, so the updates go out in a single JDBC batch.
+     * Every assignee of the shifted tasks receives one summary notification.
+     *
+     * @param task The task whose dates were changed
+     * @throws ApiException if the dependencies contain a cycle or a shifted task
+     *                      would end after the project end date
+     */
+    private void shiftDependentTasks(Task task) {
+        Project project = task.getProject();
+        TaskNetwork network = TaskNetwork.fromRows(taskRepository.findScheduleRows(project.getId()));
+        int[] order = network.topologicalOrder();
+        if (order == null) {
+            throw new ApiException("Task dependencies of this project contain a cycle", HttpStatus.CONFLICT);
+        }
+
+        int size = network.size();
+        LocalDateTime[] startDates = new LocalDateTime[size];
+        LocalDateTime[] endDates = new LocalDateTime[size];
+        boolean[] moved = new boolean[size];
+        for (int node = 0; node < size; node++) {
+            startDates[node] = network.startDate(node);
+            endDates[node] = network.endDate(node);
+        }
+        int root = network.indexOf(task.getId());
+        startDates[root] = task.getStartDate();
+        endDates[root] = task.getEndDate();
+        moved[root] = true;
+
+        Map<UUID, Integer> shifted = new HashMap<>();
+        boolean reachedRoot = false;
+        for (int node : order) {
+            // Only tasks after the updated one in topological order can depend on it
+            if (!reachedRoot) {
+                reachedRoot = node == root;
+                continue;
+            }
+            LocalDateTime earliestStart = null;
+            boolean hasMovedPrerequisite = false;
+            for (int i = network.predecessorStart(node); i < network.predecessorEnd(node); i++) {
+                int prerequisite = network.predecessorAt(i);
+                hasMovedPrerequisite |= moved[prerequisite];
+                LocalDateTime finish = endDates[prerequisite] != null ? endDates[prerequisite] : startDates[prerequisite];
+                if (earliestStart == null || finish.isAfter(earliestStart)) {
+                    earliestStart = finish;
+                }
+            }
+            if (!hasMovedPrerequisite || !earliestStart.isAfter(startDates[node])) {
+                continue;
+            }
+            Duration shift = Duration.between(startDates[node], earliestStart);
+            startDates[node] = earliestStart;
+            if (endDates[node] != null) {
+                endDates[node] = endDates[node].plus(shift);
+            }
+            LocalDateTime finish = endDates[node] != null ? endDates[node] : startDates[node];
+            if (project.getEndDate() != null && finish.toLocalDate().isAfter(project.getEndDate())) {
+                throw new ApiException("Shifting dependent task " + network.id(node)
+                        + " would move it past the project end date", HttpStatus.CONFLICT);
+            }
+            moved[node] = true;
+            shifted.put(network.id(node), node);
+        }
+        if (shifted.isEmpty()) {
+            return;
+        }
+
+        List<Task> shiftedTasks = taskRepository.findAllById(shifted.keySet());
+        for (Task dependent : shiftedTasks) {
+            int node = shifted.get(dependent.getId());
+            dependent.setStartDate(startDates[node]);
+            dependent.setEndDate(endDates[node]);
+            if (dependent.getCalendarEventId() != null) {
+                updateCalendarEvent(dependent);
+            }
+        }
+        taskRepository.saveAll(shiftedTasks);
+
+        // One summary per assignee instead of one notification per shifted task
+        Map<UUID, String> namesById = shiftedTasks.stream()
+                .collect(Collectors.toMap(Task::getId, Task::getName));
+        Map<UUID, List<String>> namesByUser = new HashMap<>();
+        for (TaskLinkView link : taskAssigneeRepository.findAssigneeUserLinks(shifted.keySet())) {
+            namesByUser.computeIfAbsent(link.getLinkedId(), id -> new ArrayList<>())
+                    .add(namesById.get(link.getTaskId()));
+        }
+        userRepository.findAllById(namesByUser.keySet()).forEach(assignee -> notificationHelper.notifyUser(
+                assignee,
+                NotificationStatus.TASK_UPDATED,
+                NotificationContent.of("TASK_DEPENDENTS_SHIFTED", "task", task.getName(),
+                        "tasks", String.join(", ", namesByUser.get(assignee.getId())))
+        ));
+    }
+
+    /**
+     * Creates many tasks in one request.
+     * Every task is validated first, loading each referenced project only once; if any task is
+     * invalid, nothing is written and the errors of all invalid tasks are reported together.
+     * Valid batches are inserted with JDBC batching, and every member of the affected projects
+     * receives a single summary notification instead of one per task.
+     *
+     * @param tasks The tasks to create, each referencing its project by ID
+     * @param user The user creating the tasks
+     * @return The created tasks, in request order
+     * @throws BatchValidationException if any task is invalid
+     * @throws ApiException if the batch is empty or too large
+     */
+    @Transactional
+    public List<TaskDTO> createTasks(List<Task> tasks, User user) {
+        assertBatchSize(tasks.size());
+
+        Set<UUID> projectIds = tasks.stream()
+                .map(task -> task.getProject().getId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, Project> projects = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, project -> project));
+
+        List<BatchItemErrorDTO> errors = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            String error = validateNewTask(tasks.get(i), projects, user);
+            if (error != null) {
+                errors.add(new BatchItemErrorDTO(i, error));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new BatchValidationException("Batch contains invalid tasks", errors);
+        }
+
+        Map<Project, Integer> createdPerProject = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            Project project = projects.get(task.getProject().getId());
+            task.setProject(project);
+            task.setAssignees(new HashSet<>());
+            task.setComments(new HashSet<>());
+            task.setDependencies(new HashSet<>());
+            task.setDependentTasks(new HashSet<>());
+            createdPerProject.merge(project, 1, Integer::sum);
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        createdPerProject.keySet().forEach(project ->
+                eventPublisher.publishEvent(new ProjectTasksChangedEvent(project.getId())));
+        notifyProjectMembers(createdPerProject, "TASKS_CREATED");
+
+        return savedTasks.stream().map(TaskMapper::taskToDTO).toList();
+    }
+
+    /**
+     * Updates many tasks in one request.
+     * Applies the same permission and date rules as {@link #updateTask}, plus the priority.
+     * Every update is validated first; if any is invalid, nothing is written and the errors
+     * of all invalid updates are reported together. Changed tasks are written with JDBC batching,
+     * and every member of the affected projects receives a single summary notification.
+     *
+     * @param updates Tasks carrying the ID of the task to update and the fields to change
+     * @param user The user performing the update
+     * @return The updated tasks, in request order
+     * @throws BatchValidationException if any update is invalid
+     * @throws ApiException if the batch is empty or too large
+     */
+    @Transactional
+    public List<TaskDTO> updateTasks(List<Task> updates, User user) {
+        assertBatchSize(updates.size());
+
+        Set<UUID> taskIds = updates.stream()
+                .map(Task::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        // Locked, so that concurrent status changes cannot adjust the dependents' counters twice
+        Map<UUID, Task> existingTasks = taskRepository.findAllForUpdate(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, task -> task));
+        Map<UUID, Set<UUID>> assigneeUserIds = groupLinks(taskAssigneeRepository.findAssigneeUserLinks(taskIds));
+
+        List<BatchItemErrorDTO> errors = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < updates.size(); i++) {
+            Task update = updates.get(i);
+            String error = update.getId() != null && !seen.add(update.getId())
+                    ? "Task appears more than once in the batch"
+                    : validateTaskUpdate(update, existingTasks.get(update.getId()),
+                            assigneeUserIds.getOrDefault(update.getId(), Set.of()), user);
+            if (error != null) {
+                errors.add(new BatchItemErrorDTO(i, error));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new BatchValidationException("Batch contains invalid task updates", errors);
+        }
+
+        List<Task> changedTasks = new ArrayList<>(updates.size());
+        Map<UUID, Integer> statusFlips = new HashMap<>();
+        Map<Project, Integer> updatedPerProject = new LinkedHashMap<>();
+        for (Task update : updates) {
+            Task task = existingTasks.get(update.getId());
+            applyTaskUpdate(task, update, statusFlips);
+            changedTasks.add(task);
+            updatedPerProject.merge(task.getProject(), 1, Integer::sum);
+        }
+
+        taskRepository.saveAll(changedTasks);
+        statusFlips.forEach(taskRepository::adjustUnfinishedDepsOfDependents);
+        updatedPerProject.keySet().forEach(project ->
+                eventPublisher.publishEvent(new ProjectTasksChangedEvent(project.getId())));
+        notifyProjectMembers(updatedPerProject, "TASKS_UPDATED");
+
+        List<UUID> ids = changedTasks.stream().map(Task::getId).toList();
+        Map<UUID, Set<UUID>> assigneeIds = groupLinks(taskAssigneeRepository.findAssignmentLinks(ids));
+        Map<UUID, Set<UUID>> dependencyIds = groupLinks(taskDependencyRepository.findPrerequisiteLinks(ids));
+        return changedTasks.stream()
+                .map(task -> TaskMapper.taskToDTO(task,
+                        assigneeIds.getOrDefault(task.getId(), Set.of()),
+                        dependencyIds.getOrDefault(task.getId(), Set.of())))
+                .toList();
+    }
+
+    private static void assertBatchSize(int size) {
+        if (size == 0) {
+            throw new ApiException("Batch cannot be empty", HttpStatus.BAD_REQUEST);
+        }
+        if (size > MAX_BATCH_SIZE) {
+            throw new ApiException("Batch cannot contain more than " + MAX_BATCH_SIZE + " tasks", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Checks a task of a creation batch against the rules of {@link #createTask} and the task's project.
+     *
+     * @return The error message, or null if the task is valid
+     */
+    private static String validateNewTask(Task task, Map<UUID, Project> projects, User user) {
+        if (task.getProject().getId() == null) {
+            return "Project ID is required";
+        }
+        Project project = projects.get(task.getProject().getId());
+        if (project == null) {
+            return "Project not found";
+        }
+        if (GetProjectRole.getProjectRole(user, project) == null) {
+            return "You don't have permission to create tasks in this project";
+        }
+        if (task.getName() == null || task.getName().isBlank()) {
+            return "Task name is required";
+        }
+        if (task.getPriority() == null) {
+            return "Priority is required";
+        }
+        if (task.getStatus() == null) {
+            return "Status is required";
+        }
+        if (task.getStartDate() == null) {
+            return "Start date is required";
+        }
+        return validateTaskDates(project, task.getStartDate(), task.getStartDate(), task.getEndDate());
+    }
+
+    /**
+     * Checks an update of a batch against the permission and date rules of {@link #updateTask}.
+     *
+     * @return The error message, or null if the update is valid
+     */
+    private static String validateTaskUpdate(Task update, Task existing, Set<UUID> assigneeUserIds, User user) {
+        if (update.getId() == null) {
+            return "Task ID is required";
+        }
+        if (existing == null) {
+            return "Task not found";
+        }
+        if (GetProjectRole.getProjectRole(user, existing.getProject()) != ProjectUserRole.PM
+                && !assigneeUserIds.contains(user.getId())) {
+            return "You don't have permission to update this task";
+        }
+        if (update.getName() != null && update.getName().isBlank()) {
+            return "Task name cannot be blank";
+        }
+        LocalDateTime startDate = update.getStartDate() != null ? update.getStartDate() : existing.getStartDate();
+        return validateTaskDates(existing.getProject(), update.getStartDate(), startDate, update.getEndDate());
+    }
+
+    /**
+     * Applies the date rules shared by task creation and updates.
+     *
+     * @param project The task's project
+     * @param newStartDate The start date being set, or null if it does not change
+     * @param startDate The start date the task will have
+     * @param newEndDate The end date being set, or null if it does not change
+     * @return The error message, or null if the dates are valid
+     */
+    private static String validateTaskDates(Project project, LocalDateTime newStartDate,
+                                            LocalDateTime startDate, LocalDateTime newEndDate) {
+        if (newStartDate != null) {
+            if (newStartDate.toLocalDate().isBefore(project.getStartDate())) {
+                return "Task start date cannot be before project start date";
+            }
+            if (project.getEndDate() != null && newStartDate.toLocalDate().isAfter(project.getEndDate())) {
+                return "Task start date cannot be after project end date";
+            }
+        }
+        if (newEndDate != null) {
+            if (newEndDate.isBefore(startDate)) {
+                return "End date cannot be before start date";
+            }
+            if (project.getEndDate() != null && newEndDate.toLocalDate().isAfter(project.getEndDate())) {
+                return "Task end date cannot be after project end date";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copies the non-null fields of an update onto a task, handling status changes
+     * and calendar events the same way as {@link #updateTask}.
+     *
+     * @param task The managed task to update
+     * @param update The fields to change
+     * @param statusFlips Receives the unfinished prerequisite counter change for the task's dependents
+     */
+    private void applyTaskUpdate(Task task, Task update, Map<UUID, Integer> statusFlips) {
+        if (update.getName() != null) {
+            task.setName(update.getName());
+        }
+        if (update.getDescription() != null) {
+            task.setDescription(update.getDescription());
+        }
+        if (update.getPriority() != null) {
+            task.setPriority(update.getPriority());
+        }
+        if (update.getStartDate() != null) {
+            task.setStartDate(update.getStartDate());
+        }
+        if (update.getEndDate() != null) {
+            task.setEndDate(update.getEndDate());
+        }
+        boolean datesChanged = update.getStartDate() != null || update.getEndDate() != null;
+        if (datesChanged && task.getCalendarEventId() != null) {
+            updateCalendarEvent(task);
+        }
+
+        if (update.getStatus() != null) {
+            boolean wasCompleted = task.getStatus() == TaskStatus.FINISHED;
+            boolean isNowCompleted = update.getStatus() == TaskStatus.FINISHED;
+            if (!wasCompleted && isNowCompleted && task.getEndDate() == null) {
+                task.setEndDate(LocalDateTime.now());
+            }
+            if (wasCompleted && !isNowCompleted && update.getEndDate() == null) {
+                task.setEndDate(null);
+            }
+            task.setStatus(update.getStatus());
+            if (wasCompleted != isNowCompleted) {
+                statusFlips.put(task.getId(), isNowCompleted ? -1 : 1);
+            }
+            if (!wasCompleted && isNowCompleted && task.getCalendarEventId() != null) {
+                removeCalendarEvent(task);
+            }
+        }
+    }
+
+    /**
+     * Sends every member of the given projects one notification summarizing
+     * how many tasks of each of their projects a batch operation touched.
+     *
+     * @param countsPerProject Number of touched tasks per project
+     * @param template ID of the notification template, which lists the projects
+     */
+    private void notifyProjectMembers(Map<Project, Integer> countsPerProject, String template) {
+        Map<UUID, User> members = new LinkedHashMap<>();
+        Map<UUID, List<String>> partsByMember = new HashMap<>();
+        countsPerProject.forEach((project, count) -> project.getMembers().values().forEach(member -> {
+            members.putIfAbsent(member.getUser().getId(), member.getUser());
+            partsByMember.computeIfAbsent(member.getUser().getId(), id -> new ArrayList<>())
+                    .add(project.getName() + " (" + count + ")");
+        }));
+        members.forEach((id, member) -> notificationHelper.notifyUser(
+                member,
+                NotificationStatus.TASK_UPDATED,
+                NotificationContent.of(template, "projects", String.join(", ", partsByMember.get(id)))
+        ));
+    }
+
+    /**
+     * Removes the team calendar event of a task and clears the event IDs stored on the task
+     * and its assignees. Failures are logged and do not interrupt the task update.
+     *
+     * @param task The task whose calendar event should be removed
+     */
+    private void removeCalendarEvent(Task task) {
+        try {
+            calendarService.deleteEventWithServiceAccount(task.getCalendarEventId());
+            task.setCalendarEventId(null);
+            
+            // Clear calendar event IDs from all assignees
+            task.getAssignees().forEach(assignee -> {
+                assignee.setCalendarEventId(null);
+                taskAssigneeRepository.save(assignee);
+            });
+        } catch (Exception e) {
+            log.error("Failed to delete calendar event: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Updates the team calendar event of a task to match its current dates.
+     * Failures are logged and do not interrupt the task update.
+     *
+     * @param task The task whose calendar event should be updated
+     */
+    private void updateCalendarEvent(Task task) {
+        try {
+            // Update the main calendar event for this task using service account
+            LocalDateTime startDateTime = task.getStartDate();
+            LocalDateTime endDateTime = task.getEndDate() != null ? 
+                task.getEndDate() :
+                task.getStartDate();
+            
+            ZonedDateTime startZoned = startDateTime.atZone(ZoneId.of("Europe/Warsaw"));
+            ZonedDateTime endZoned = endDateTime.atZone(ZoneId.of("Europe/Warsaw"));
+            
+            String summary = task.getName() + " (" + task.getProject().getName() + ")"; 
+            
+            // Get current event to preserve description with assignees
+            calendarService.updateEventWithServiceAccount(
+                task.getCalendarEventId(),
+                summary,
+                startZoned,
+                endZoned
+            );
+            
+            log.info("Updated calendar event {} for task {}", task.getCalendarEventId(), task.getName());
+        } catch (Exception e) {
+            log.error("Failed to update calendar event: {}", e.getMessage());
+        }
+    }
+
     /**
      * Deletes a task.
      * Only project managers can delete tasks.
@@ -259,7 +700,11 @@ public class TaskService {
      */
     @Transactional
     public void deleteTask(UUID taskId, User user){
-        Task task = taskRepository.findById(taskId)
+        // The project's dependency changes are serialized before the task is locked
+        UUID projectId = taskRepository.findProjectId(taskId)
+                .orElseThrow(() -> new ApiException("Task not found", HttpStatus.NOT_FOUND));
+        long dependencyVersion = dependencyGraphIndex.lockProject(projectId);
+        Task task = taskRepository.findForUpdate(taskId)
                 .orElseThrow(() -> new ApiException("Task not found", HttpStatus.NOT_FOUND));
         boolean isPM = GetProjectRole.getProjectRole(user, task.getProject()) == ProjectUserRole.PM;
         if(!isPM){
@@ -284,21 +729,21 @@ public class TaskService {
         // Save the task name for use in notifications
         String taskName = task.getName();
         
+        // The dependents lose this prerequisite together with the task
+        if (task.getStatus() != TaskStatus.FINISHED) {
+            taskRepository.adjustUnfinishedDepsOfDependents(taskId, -1);
+        }
         taskRepository.deleteById(taskId);
+        dependencyGraphIndex.invalidate(projectId, dependencyVersion);
+        eventPublisher.publishEvent(new ProjectTasksChangedEvent(task.getProject().getId()));
 
         // Notify assigned users of task deletion
-        assignees.forEach(assignee -> {
-            notificationHelper.notifyTaskAssignee(
-                assignee,
-                NotificationStatus.TASK_DELETED,
-                taskName
-            );
-        });
+        notificationHelper.notifyTaskAssignees(assignees, NotificationStatus.TASK_DELETED, task);
         if(!assignees.contains(user)){
             notificationHelper.notifyUser(
                     user,
                     NotificationStatus.TASK_DELETED,
-                    taskName + " został usunięty."
+                    NotificationContent.of("TASK_DELETED.author", "task", taskName)
             );
         }
 
@@ -346,38 +791,124 @@ public class TaskService {
         
         return new ArrayList<>(project.getTasks());
     }
+
+    /**
+     * Retrieves one page of a project's tasks using keyset pagination on (startDate, id).
+     * Only the task columns and the assignee and dependency identifiers are read,
+     * so the cost of a page does not depend on the size of the tasks' comment history.
+     * Only project members can view project tasks.
+     *
+     * @param projectId ID of the project
+     * @param user User requesting the tasks
+     * @param cursor Opaque cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of tasks to return, defaults to 50 and is capped at 200
+     * @param status Optional status filter
+     * @param priority Optional priority filter
+     * @return The page of tasks together with the cursor of the next page
+     */
+    public CursorPageDTO<TaskDTO> getTaskPageByProject(UUID projectId, User user, String cursor,
+                                                       Integer limit, TaskStatus status, TaskPriority priority) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ApiException("Project not found", HttpStatus.NOT_FOUND));
+
+        ProjectUserRole role = GetProjectRole.getProjectRole(user, project);
+        if (role == null) {
+            throw new ApiException("You don't have permission to view tasks in this project", HttpStatus.FORBIDDEN);
+        }
+
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        // Fetch one extra row to learn whether another page follows
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<TaskSummaryView> rows = after == null
+                ? taskRepository.findProjectTaskPage(projectId, status, priority, pageable)
+                : taskRepository.findProjectTaskPageAfter(projectId, status, priority,
+                        after.timestamp(), after.id(), pageable);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<TaskSummaryView> page = hasMore ? rows.subList(0, pageSize) : rows;
+        if (page.isEmpty()) {
+            return new CursorPageDTO<>(List.of(), null);
+        }
+
+        List<TaskDTO> items = toTaskDTOs(page);
+
+        TaskSummaryView last = page.get(page.size() - 1);
+        String nextCursor = hasMore ? new KeysetCursor(last.getStartDate(), last.getId()).encode() : null;
+        return new CursorPageDTO<>(items, nextCursor);
+    }
     
     /**
      * Retrieves all tasks assigned to a specific user.
      * This method finds all tasks that the user is assigned to across all projects.
+     * Task rows, assignment IDs and prerequisite IDs are each read with a single query,
+     * so the number of round trips does not depend on how many tasks the user has.
      *
      * @param userId ID of the user whose tasks are to be retrieved
      * @param requestingUser The user making the request (for authorization)
-     * @return List of tasks assigned to the specified user
+     * @return List of tasks assigned to the specified user, ordered by start date
      * @throws ApiException if the user is not found or requesting user lacks authorization
      */
-    public List<Task> getTasksByUserId(UUID userId, User requestingUser) {
+    public List<TaskDTO> getTasksByUserId(UUID userId, User requestingUser) {
         // Ensure the requesting user is authorized
         UserUtils.assertAuthorized(requestingUser);
         
         // Check if the user exists
-        User targetUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", HttpStatus.NOT_FOUND));
+        if (!userRepository.existsById(userId)) {
+            throw new ApiException("User not found", HttpStatus.NOT_FOUND);
+        }
 
         if (!requestingUser.getId().equals(userId) && requestingUser.getGlobalRole() != GlobalRole.ADMIN) {
             throw new ApiException("You don't have permission to view tasks for this user", HttpStatus.FORBIDDEN);
         }
         
-        // Get all task assignments for the user
-        List<TaskAssignee> assignments = taskAssigneeRepository.findAllByUser_Id(userId);
-        
-        // Extract tasks from assignments
-        List<Task> tasks = assignments.stream()
-                .map(TaskAssignee::getTask)
-                .distinct()
-                .collect(Collectors.toList());
-        
-        return tasks;
+        return toTaskDTOs(taskRepository.findTasksAssignedToUser(userId));
+    }
+
+    /**
+     * Retrieves the tasks of a project that are ready to start:
+     * not finished yet and with every prerequisite finished.
+     * Reads the maintained unfinished prerequisite counters instead of walking the dependency graph.
+     * Only project members can view project tasks.
+     *
+     * @param projectId ID of the project
+     * @param user User requesting the tasks
+     * @return Ready tasks of the project, ordered by start date
+     * @throws ApiException if the project is not found or the user is not a member
+     */
+    public List<TaskDTO> getReadyTasksByProject(UUID projectId, User user) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ApiException("Project not found", HttpStatus.NOT_FOUND));
+
+        ProjectUserRole role = GetProjectRole.getProjectRole(user, project);
+        if (role == null) {
+            throw new ApiException("You don't have permission to view tasks in this project", HttpStatus.FORBIDDEN);
+        }
+
+        return toTaskDTOs(taskRepository.findReadyTasksByProject(projectId));
+    }
+
+    /**
+     * Retrieves the tasks assigned to a user that are ready to start:
+     * not finished yet and with every prerequisite finished.
+     *
+     * @param userId ID of the user whose tasks are to be retrieved
+     * @param requestingUser The user making the request (for authorization)
+     * @return Ready tasks assigned to the specified user, ordered by start date
+     * @throws ApiException if the user is not found or requesting user lacks authorization
+     */
+    public List<TaskDTO> getReadyTasksByUserId(UUID userId, User requestingUser) {
+        UserUtils.assertAuthorized(requestingUser);
+
+        if (!userRepository.existsById(userId)) {
+            throw new ApiException("User not found", HttpStatus.NOT_FOUND);
+        }
+
+        if (!requestingUser.getId().equals(userId) && requestingUser.getGlobalRole() != GlobalRole.ADMIN) {
+            throw new ApiException("You don't have permission to view tasks for this user", HttpStatus.FORBIDDEN);
+        }
+
+        return toTaskDTOs(taskRepository.findReadyTasksAssignedToUser(userId));
     }
     
     /**
@@ -403,4 +934,41 @@ public class TaskService {
 
         return null;
     }
+
+    /**
+     * Converts task projections to DTOs. The assignment and prerequisite IDs of all tasks
+     * are each read with a single query instead of once per task.
+     *
+     * @param tasks Task projections
+     * @return The task DTOs in the same order
+     */
+    private List<TaskDTO> toTaskDTOs(List<TaskSummaryView> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> taskIds = tasks.stream().map(TaskSummaryView::getId).toList();
+        Map<UUID, Set<UUID>> assigneeIds = groupLinks(taskAssigneeRepository.findAssignmentLinks(taskIds));
+        Map<UUID, Set<UUID>> dependencyIds = groupLinks(taskDependencyRepository.findPrerequisiteLinks(taskIds));
+
+        return tasks.stream()
+                .map(task -> TaskMapper.summaryToDTO(task,
+                        assigneeIds.getOrDefault(task.getId(), Set.of()),
+                        dependencyIds.getOrDefault(task.getId(), Set.of())))
+                .toList();
+    }
+
+    /**
+     * Groups (task id, linked id) pairs by task id.
+     *
+     * @param links Pairs loaded for a batch of tasks
+     * @return Map of task ID to the set of linked IDs
+     */
+    private static Map<UUID, Set<UUID>> groupLinks(Collection<TaskLinkView> links) {
+        Map<UUID, Set<UUID>> grouped = new HashMap<>();
+        for (TaskLinkView link : links) {
+            grouped.computeIfAbsent(link.getTaskId(), id -> new HashSet<>()).add(link.getLinkedId());
+        }
+        return grouped;
+    }
 }
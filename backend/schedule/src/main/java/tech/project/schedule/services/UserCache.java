@@ -0,0 +1,166 @@
+package tech.project.schedule.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.project.schedule.model.enums.GlobalRole;
+import tech.project.schedule.model.enums.UserStatus;
+import tech.project.schedule.model.user.User;
+import tech.project.schedule.repositories.UserRepository;
+import tech.project.schedule.services.events.UserCacheEvictedEvent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of the user data needed to authenticate a request, keyed by email and by ID.
+ * Every authenticated request looks its user up, so the cache saves a database round trip per
+ * request. Entries expire after {@code users.cache.ttl}; the user services evict them as soon as
+ * a user's status, role or password changes, after the change is committed. Evictions are
+ * announced with a {@link UserCacheEvictedEvent}, through which nodes sharing the database evict
+ * the user from their caches too. The cache holds at
+ * most {@code users.cache.max-size} users; when it is full, expired entries are dropped and new
+ * lookups go to the database without being cached.
+ *
+ * <p>Entries are immutable snapshots rather than entities, so they can be shared between
+ * requests without touching lazy associations or a closed persistence context.</p>
+ */
+@Component
+public class UserCache {
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration ttl;
+    private final int maxSize;
+    private final Map<String, CachedUser> byEmail = new ConcurrentHashMap<>();
+    private final Map<UUID, CachedUser> byId = new ConcurrentHashMap<>();
+    // Incremented by every eviction, so that a lookup racing with one does not cache stale data
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserCache(UserRepository userRepository,
+                     ApplicationEventPublisher eventPublisher,
+                     @Value("${users.cache.ttl:PT30S}") Duration ttl,
+                     @Value("${users.cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Snapshot of the authentication data of a user.
+     *
+     * @param id ID of the user
+     * @param email Email address, the username used to log in
+     * @param password Password hash
+     * @param globalRole System-wide role
+     * @param userStatus Account status
+     * @param expiresAt When the entry expires, in {@link System#nanoTime()} units
+     */
+    public record CachedUser(UUID id, String email, String password, GlobalRole globalRole, UserStatus userStatus,
+                             long expiresAt) {
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * Returns a user by email, loading it from the database if it is not cached.
+     *
+     * @param email Email address of the user
+     * @return The user, or empty if no user has this email
+     */
+    public Optional<CachedUser> findByEmail(String email) {
+        CachedUser cached = byEmail.get(email);
+        if (cached != null && !cached.isExpired(System.nanoTime())) {
+            return Optional.of(cached);
+        }
+        long generation = evictions.get();
+        return userRepository.findByEmail(email).map(user -> cache(user, generation));
+    }
+
+    /**
+     * Returns a user by ID, loading it from the database if it is not cached.
+     *
+     * @param id ID of the user
+     * @return The user, or empty if no user has this ID
+     */
+    public Optional<CachedUser> findById(UUID id) {
+        CachedUser cached = byId.get(id);
+        if (cached != null && !cached.isExpired(System.nanoTime())) {
+            return Optional.of(cached);
+        }
+        long generation = evictions.get();
+        return userRepository.findById(id).map(user -> cache(user, generation));
+    }
+
+    /**
+     * Removes a user from the cache and announces the eviction to the other nodes. Inside
+     * a transaction the user is evicted again after the commit, so that a lookup made before
+     * the commit does not keep the old data.
+     *
+     * @param user The changed user
+     */
+    public void evict(User user) {
+        evictLocally(user.getId(), user.getEmail());
+        eventPublisher.publishEvent(new UserCacheEvictedEvent(user.getId(), user.getEmail()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            UUID id = user.getId();
+            String email = user.getEmail();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictLocally(id, email);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes all users from the cache, e.g. after evictions from other nodes may have been missed.
+     */
+    public void clear() {
+        evictions.incrementAndGet();
+        byId.clear();
+        byEmail.clear();
+    }
+
+    /**
+     * Removes a user from the cache of this node only.
+     *
+     * @param id ID of the user, may be null
+     * @param email Email address of the user, may be null
+     */
+    public void evictLocally(UUID id, String email) {
+        evictions.incrementAndGet();
+        if (id != null) {
+            byId.remove(id);
+        }
+        if (email != null) {
+            byEmail.remove(email);
+        }
+    }
+
+    private CachedUser cache(User user, long generation) {
+        CachedUser cached = new CachedUser(user.getId(), user.getEmail(), user.getPassword(), user.getGlobalRole(),
+                user.getUserStatus(), System.nanoTime() + ttl.toNanos());
+        if (byId.size() >= maxSize) {
+            long now = System.nanoTime();
+            byId.values().removeIf(entry -> entry.isExpired(now));
+            byEmail.values().removeIf(entry -> entry.isExpired(now));
+            if (byId.size() >= maxSize) {
+                return cached;
+            }
+        }
+        if (evictions.get() == generation) {
+            byId.put(cached.id(), cached);
+            byEmail.put(cached.email(), cached);
+        }
+        return cached;
+    }
+}
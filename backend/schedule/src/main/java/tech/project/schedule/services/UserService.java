@@ -22,6 +22,7 @@ import java.util.UUID;
  * Service class for managing user authentication and registration.
  * Handles user login verification, new user registration, and implements
  * security measures like password encryption.
+ * Changes to a user's password, status or role evict the user from the {@link UserCache}.
  */
 @Service
 @RequiredArgsConstructor
@@ -31,6 +32,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final MailService mailService;
+    private final UserCache userCache;
     /**
      * Base URL for the frontend password reset page, injected from application.properties or environment.
      */
@@ -73,6 +75,7 @@ public class UserService {
         user.setPassword(passwordEncoder.encode(newPassword));
         user.setUserStatus(tech.project.schedule.model.enums.UserStatus.AUTHORIZED);
         userRepository.save(user);
+        userCache.evict(user);
     }
 
 
@@ -88,6 +91,7 @@ public class UserService {
                 .orElseThrow(() -> new ApiException("User not found with provided email", HttpStatus.NOT_FOUND));
         user.setUserStatus(tech.project.schedule.model.enums.UserStatus.BLOCKED);
         userRepository.save(user);
+        userCache.evict(user);
     }
 
     public String register(RegistrationRequest request) {
@@ -136,6 +140,7 @@ public class UserService {
                         HttpStatus.NOT_FOUND));
         user.setUserStatus(UserStatus.AUTHORIZED);
         userRepository.save(user);
+        userCache.evict(user);
     }
 
     /**
@@ -156,5 +161,6 @@ public class UserService {
             throw new ApiException("Invalid global role: " + request.newRole, HttpStatus.BAD_REQUEST);
         }
         userRepository.save(user);
+        userCache.evict(user);
     }
 }
@@ -0,0 +1,189 @@
+package tech.project.schedule.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.project.schedule.dto.user.OverbookedIntervalDTO;
+import tech.project.schedule.dto.user.WorkloadBucketDTO;
+import tech.project.schedule.dto.user.WorkloadDTO;
+import tech.project.schedule.exception.ApiException;
+import tech.project.schedule.model.enums.GlobalRole;
+import tech.project.schedule.model.user.User;
+import tech.project.schedule.repositories.ProjectRepository;
+import tech.project.schedule.repositories.TaskAssigneeRepository;
+import tech.project.schedule.repositories.UserRepository;
+import tech.project.schedule.repositories.projections.TaskIntervalView;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service class computing the workload timeline of users.
+ * Counts how many open tasks a user is assigned to at the same time, per day or week,
+ * and reports the periods in which that number exceeds the user's capacity.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkloadService {
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskAssigneeRepository taskAssigneeRepository;
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int DEFAULT_CAPACITY = 1;
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    // Event types; at equal times ends are processed before starts, and ends of zero-length tasks last
+    private static final int END = 0;
+    private static final int START = 1;
+    private static final int POINT_END = 2;
+
+    /**
+     * Returns the workload of a user between two dates.
+     * Users can view their own workload; admins and project managers of the user's projects
+     * can view anyone's.
+     *
+     * @param userId ID of the user whose workload is computed
+     * @param requestingUser The user making the request
+     * @param from First day of the range, inclusive
+     * @param to Last day of the range, inclusive
+     * @param bucket Either "day" or "week"; weeks start on {@code from}
+     * @param capacity Number of concurrent tasks above which the user is overbooked, defaults to 1
+     * @return The workload per bucket and the overbooked intervals
+     * @throws ApiException if the user is not found, the requesting user lacks permission,
+     *                      or the range or bucket is invalid
+     */
+    @Transactional(readOnly = true)
+    public WorkloadDTO getWorkload(UUID userId, User requestingUser, LocalDate from, LocalDate to,
+                                   String bucket, Integer capacity) {
+        if (!userRepository.existsById(userId)) {
+            throw new ApiException("User not found", HttpStatus.NOT_FOUND);
+        }
+        if (!requestingUser.getId().equals(userId) && requestingUser.getGlobalRole() != GlobalRole.ADMIN
+                && !projectRepository.isManagedBy(userId, requestingUser.getId())) {
+            throw new ApiException("You don't have permission to view this user's workload", HttpStatus.FORBIDDEN);
+        }
+
+        int bucketDays = switch (bucket) {
+            case "day" -> 1;
+            case "week" -> 7;
+            default -> throw new ApiException("Bucket must be either 'day' or 'week'", HttpStatus.BAD_REQUEST);
+        };
+        if (to.isBefore(from)) {
+            throw new ApiException("End of the range cannot be before its start", HttpStatus.BAD_REQUEST);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new ApiException("Range cannot be longer than " + MAX_RANGE_DAYS + " days", HttpStatus.BAD_REQUEST);
+        }
+        int limit = capacity == null ? DEFAULT_CAPACITY : capacity;
+        if (limit < 1) {
+            throw new ApiException("Capacity must be at least 1", HttpStatus.BAD_REQUEST);
+        }
+
+        LocalDateTime windowStart = from.atStartOfDay();
+        LocalDateTime windowEnd = to.plusDays(1).atStartOfDay();
+        List<TaskIntervalView> intervals = taskAssigneeRepository.findOpenTaskIntervals(userId, windowStart, windowEnd);
+
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        int[] peaks = new int[(days + bucketDays - 1) / bucketDays];
+        List<OverbookedIntervalDTO> overbooked = sweep(events(intervals, windowStart, days * MINUTES_PER_DAY),
+                windowStart, bucketDays * MINUTES_PER_DAY, limit, peaks);
+
+        List<WorkloadBucketDTO> buckets = new ArrayList<>(peaks.length);
+        for (int b = 0; b < peaks.length; b++) {
+            LocalDate start = from.plusDays((long) b * bucketDays);
+            LocalDate end = start.plusDays(bucketDays - 1);
+            buckets.add(new WorkloadBucketDTO(start, end.isAfter(to) ? to : end, peaks[b], peaks[b] > limit));
+        }
+        return new WorkloadDTO(userId, from, to, bucket, limit, buckets, overbooked);
+    }
+
+    /**
+     * Turns task intervals into sorted sweep events. Each event is packed into a long as
+     * (minute offset from the window start << 2 | event type), so sorting the array orders
+     * events by time and, at equal times, by type. Intervals are clipped to the window.
+     */
+    private static long[] events(List<TaskIntervalView> intervals, LocalDateTime windowStart, long windowMinutes) {
+        long[] events = new long[intervals.size() * 2];
+        int count = 0;
+        for (TaskIntervalView interval : intervals) {
+            long start = ChronoUnit.MINUTES.between(windowStart, interval.getStartDate());
+            long end = interval.getEndDate() == null ? start
+                    : Math.max(start, ChronoUnit.MINUTES.between(windowStart, interval.getEndDate()));
+            boolean point = start == end;
+            start = Math.max(start, 0);
+            end = Math.min(end, windowMinutes);
+            if (point ? start >= windowMinutes : end <= start) {
+                // Only touches the window boundary
+                continue;
+            }
+            events[count++] = start << 2 | START;
+            events[count++] = end << 2 | (point ? POINT_END : END);
+        }
+        events = Arrays.copyOf(events, count);
+        Arrays.sort(events);
+        return events;
+    }
+
+    /**
+     * Sweeps over the events, tracking the number of concurrent tasks.
+     * Fills the peak of every bucket the sweep passes and collects the maximal intervals
+     * in which the number of tasks exceeds the capacity.
+     */
+    private static List<OverbookedIntervalDTO> sweep(long[] events, LocalDateTime windowStart, long bucketMinutes,
+                                                     int capacity, int[] peaks) {
+        List<OverbookedIntervalDTO> overbooked = new ArrayList<>();
+        int level = 0;
+        long overbookedSince = -1;
+        int overbookedPeak = 0;
+        for (int i = 0; i < events.length; i++) {
+            long time = events[i] >> 2;
+            if ((events[i] & 3) == START) {
+                level++;
+                int b = bucketOf(time, bucketMinutes, peaks.length);
+                peaks[b] = Math.max(peaks[b], level);
+                if (level > capacity) {
+                    if (overbookedSince < 0) {
+                        overbookedSince = time;
+                        overbookedPeak = level;
+                        // Continue an interval that ended at this very moment instead of starting a new one
+                        int last = overbooked.size() - 1;
+                        if (last >= 0 && overbooked.get(last).end().equals(windowStart.plusMinutes(time))) {
+                            OverbookedIntervalDTO previous = overbooked.remove(last);
+                            overbookedSince = ChronoUnit.MINUTES.between(windowStart, previous.start());
+                            overbookedPeak = Math.max(level, previous.peakTasks());
+                        }
+                    }
+                    overbookedPeak = Math.max(overbookedPeak, level);
+                }
+            } else {
+                level--;
+                if (level <= capacity && overbookedSince >= 0) {
+                    overbooked.add(new OverbookedIntervalDTO(windowStart.plusMinutes(overbookedSince),
+                            windowStart.plusMinutes(time), overbookedPeak));
+                    overbookedSince = -1;
+                }
+            }
+
+            // The level holds until the next event and counts in every bucket the gap spans
+            long next = i + 1 < events.length ? events[i + 1] >> 2 : time;
+            if (next > time && level > 0) {
+                int last = bucketOf(next - 1, bucketMinutes, peaks.length);
+                for (int b = bucketOf(time, bucketMinutes, peaks.length); b <= last; b++) {
+                    peaks[b] = Math.max(peaks[b], level);
+                }
+            }
+        }
+        return overbooked;
+    }
+
+    private static int bucketOf(long minute, long bucketMinutes, int bucketCount) {
+        return (int) Math.min(minute / bucketMinutes, bucketCount - 1);
+    }
+}
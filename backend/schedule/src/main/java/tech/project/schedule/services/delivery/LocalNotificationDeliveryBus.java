@@ -0,0 +1,43 @@
+package tech.project.schedule.services.delivery;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tech.project.schedule.model.notification.Notification;
+import tech.project.schedule.services.NotificationService;
+
+import java.util.List;
+
+/**
+ * Delivery bus for a single node: notifications are pushed straight to the sessions
+ * connected to this node. Used unless {@code notifications.delivery.bus} selects another bus.
+ */
+@Component
+@ConditionalOnProperty(name = "notifications.delivery.bus", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class LocalNotificationDeliveryBus implements NotificationDeliveryBus {
+    private final NotificationService notificationService;
+    private final NotificationSessionRegistry sessionRegistry;
+
+    /**
+     * Pushes the notifications of recipients with a session on this node.
+     *
+     * @param notifications The stored notifications
+     */
+    @Override
+    public void publish(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            if (!sessionRegistry.isSubscribed(notification.getUser().getId())) {
+                continue;
+            }
+            try {
+                notificationService.sendNotification(notification.getUser().getId(), notification);
+            } catch (RuntimeException e) {
+                // The notification is stored; the user will see it on the next fetch
+                log.warn("Failed to push notification {}: {}", notification.getId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package tech.project.schedule.services.delivery;
+
+import tech.project.schedule.model.notification.Notification;
+
+import java.util.List;
+
+/**
+ * Delivers stored notifications to the WebSocket sessions of their recipients.
+ * Every node runs its own in-memory STOMP broker, so a recipient only receives a notification
+ * from the node their session is connected to. Implementations decide how notifications reach
+ * that node; each node then pushes them only to the sessions connected to it.
+ */
+public interface NotificationDeliveryBus {
+
+    /**
+     * Delivers notifications that have already been stored and committed.
+     * Delivery is best effort: a notification that cannot be pushed is still shown
+     * on the recipient's next fetch.
+     *
+     * @param notifications The stored notifications
+     */
+    void publish(List<Notification> notifications);
+}
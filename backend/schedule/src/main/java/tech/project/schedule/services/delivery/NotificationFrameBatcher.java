@@ -0,0 +1,118 @@
+package tech.project.schedule.services.delivery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import tech.project.schedule.dto.notification.NotificationDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the notifications pushed to a user over a short window and sends them as one
+ * STOMP frame holding a JSON array. A bulk operation touching many tasks then costs each
+ * recipient one frame instead of one per notification. Arrays are serialized straight to bytes
+ * with a writer built once from the application's {@link ObjectMapper}, bypassing the
+ * per-message conversion of the messaging template. The same array is queued to the user's
+ * Server-Sent Events streams; neither path writes to a client socket on the batching thread,
+ * so a slow client never holds up the batches of other users.
+ */
+@Component
+@Slf4j
+public class NotificationFrameBatcher {
+    private static final String DESTINATION = "/user/%s/queue/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationStreamRegistry streamRegistry;
+    private final ObjectWriter writer;
+    private final Duration window;
+    private final Map<UUID, List<NotificationDTO>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("notification-frames").factory());
+
+    private final Counter frames;
+
+    public NotificationFrameBatcher(SimpMessagingTemplate messagingTemplate,
+                                    NotificationStreamRegistry streamRegistry,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${notifications.push.batch-window:25ms}") Duration window) {
+        this.messagingTemplate = messagingTemplate;
+        this.streamRegistry = streamRegistry;
+        this.writer = objectMapper.writerFor(new TypeReference<List<NotificationDTO>>() {
+        });
+        this.window = window;
+        this.frames = Counter.builder("notifications.push.frames")
+                .description("WebSocket frames sent with batched notifications")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds a notification to the user's current batch. The first notification of a batch
+     * schedules it to be sent once the window has passed.
+     *
+     * @param userId ID of the recipient
+     * @param notification The notification to push
+     */
+    public void add(UUID userId, NotificationDTO notification) {
+        pending.compute(userId, (id, batch) -> {
+            if (batch == null) {
+                batch = new ArrayList<>();
+                scheduler.schedule(() -> flush(id), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            batch.add(notification);
+            return batch;
+        });
+    }
+
+    /**
+     * Sends the batches that are still waiting, then stops the scheduler.
+     */
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        pending.keySet().forEach(this::flush);
+    }
+
+    private void flush(UUID userId) {
+        List<NotificationDTO> batch = pending.remove(userId);
+        if (batch == null) {
+            return;
+        }
+        try {
+            byte[] json = writer.writeValueAsBytes(batch);
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            headers.setLeaveMutable(true);
+            messagingTemplate.send(DESTINATION.formatted(userId),
+                    MessageBuilder.createMessage(json, headers.getMessageHeaders()));
+            frames.increment();
+            if (streamRegistry.hasStreams(userId)) {
+                streamRegistry.send(userId, batch, new String(json, StandardCharsets.UTF_8));
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            // The notifications are stored; the user will see them on the next fetch
+            log.warn("Failed to push {} notifications to user {}: {}", batch.size(), userId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package tech.project.schedule.services.delivery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import tech.project.schedule.dto.notification.NotificationDTO;
+import tech.project.schedule.exception.ApiException;
+import tech.project.schedule.security.JwtUtil;
+import tech.project.schedule.services.NotificationService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replays the notifications a WebSocket client missed while it was disconnected.
+ * A client resubscribing to its notification queue sends the sequence number of the last
+ * notification it received in the {@value #SINCE_HEADER} header; the notifications after it
+ * are sent to that subscription only, in the same array frames as live ones. The replay runs
+ * while the broker registers the subscription, so replayed and live frames may arrive
+ * interleaved: clients drop notifications whose sequence number they have already received,
+ * and resume from the highest sequence number up to which they received every notification.
+ *
+ * <p>History is only replayed to the owner of the queue, identified by the token sent with
+ * the STOMP {@code CONNECT} frame.</p>
+ */
+@Component
+@Slf4j
+public class NotificationReplayListener {
+    static final String SINCE_HEADER = "since-seq";
+    private static final Pattern NOTIFICATION_QUEUE = Pattern.compile("/user/([0-9a-fA-F-]{36})/queue/notifications");
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final NotificationService notificationService;
+    private final JwtUtil jwtUtil;
+    private final MessageChannel clientOutboundChannel;
+    private final ObjectWriter writer;
+    // Session ID -> ID of the user who authenticated the session
+    private final Map<String, UUID> usersBySession = new ConcurrentHashMap<>();
+
+    public NotificationReplayListener(NotificationService notificationService,
+                                      JwtUtil jwtUtil,
+                                      @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                                      ObjectMapper objectMapper) {
+        this.notificationService = notificationService;
+        this.jwtUtil = jwtUtil;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.writer = objectMapper.writerFor(new TypeReference<List<NotificationDTO>>() {
+        });
+    }
+
+    /**
+     * Remembers the user who authenticated a new session.
+     */
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String authorization = accessor.getFirstNativeHeader("Authorization");
+        if (accessor.getSessionId() == null || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return;
+        }
+        String token = authorization.substring(BEARER_PREFIX.length());
+        try {
+            Claims claims = jwtUtil.verify(token);
+            String userId = claims == null ? null : claims.get("userId", String.class);
+            if (userId != null) {
+                usersBySession.put(accessor.getSessionId(), UUID.fromString(userId));
+            }
+        } catch (RuntimeException e) {
+            log.debug("Ignoring invalid token of WebSocket session {}: {}", accessor.getSessionId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Replays missed notifications when the owner of a notification queue resubscribes to it.
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String since = accessor.getFirstNativeHeader(SINCE_HEADER);
+        if (since == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null
+                || accessor.getDestination() == null) {
+            return;
+        }
+        Matcher matcher = NOTIFICATION_QUEUE.matcher(accessor.getDestination());
+        if (!matcher.matches()) {
+            return;
+        }
+        UUID userId = UUID.fromString(matcher.group(1));
+        if (!userId.equals(usersBySession.get(accessor.getSessionId()))) {
+            log.debug("Not replaying notifications of user {} to session {}", userId, accessor.getSessionId());
+            return;
+        }
+        Long afterSequence;
+        try {
+            afterSequence = NotificationService.parseSequence(since);
+        } catch (ApiException e) {
+            return;
+        }
+        if (afterSequence == null) {
+            return;
+        }
+        notificationService.replayNotifications(userId, afterSequence, null, page -> send(accessor, page));
+    }
+
+    /**
+     * Forgets a closed session.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        usersBySession.remove(event.getSessionId());
+    }
+
+    /**
+     * Sends a page of notifications to the subscription only, bypassing the broker
+     * so that the user's other sessions do not receive it again.
+     */
+    private void send(StompHeaderAccessor subscription, List<NotificationDTO> page) {
+        try {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setSessionId(subscription.getSessionId());
+            headers.setSubscriptionId(subscription.getSubscriptionId());
+            headers.setDestination(subscription.getDestination());
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            headers.setLeaveMutable(true);
+            clientOutboundChannel.send(MessageBuilder.createMessage(writer.writeValueAsBytes(page),
+                    headers.getMessageHeaders()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to replay {} notifications to session {}: {}", page.size(), subscription.getSessionId(),
+                    e.getMessage());
+        }
+    }
+}
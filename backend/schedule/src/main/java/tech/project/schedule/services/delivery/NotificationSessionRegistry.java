@@ -0,0 +1,104 @@
+package tech.project.schedule.services.delivery;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps track of the users subscribed to their notification queue through a WebSocket session
+ * connected to this node. Delivery buses consult it to push notifications only to the users
+ * this node can actually reach, which includes users with a Server-Sent Events stream.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationSessionRegistry {
+    private static final Pattern NOTIFICATION_QUEUE = Pattern.compile("/user/([0-9a-fA-F-]{36})/queue/notifications");
+
+    private final NotificationStreamRegistry streamRegistry;
+
+    // Session ID -> subscription ID -> subscribed user
+    private final Map<String, Map<String, UUID>> subscriptionsBySession = new ConcurrentHashMap<>();
+    // User -> "session ID/subscription ID" of their subscriptions on this node
+    private final Map<UUID, Set<String>> subscriptionsByUser = new ConcurrentHashMap<>();
+
+    /**
+     * Returns whether the user receives notifications on this node.
+     *
+     * @param userId ID of the user
+     * @return True if at least one local session or stream receives the user's notifications
+     */
+    public boolean isSubscribed(UUID userId) {
+        return subscriptionsByUser.containsKey(userId) || streamRegistry.hasStreams(userId);
+    }
+
+    /**
+     * Records a subscription to a user's notification queue.
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null
+                || accessor.getDestination() == null) {
+            return;
+        }
+        Matcher matcher = NOTIFICATION_QUEUE.matcher(accessor.getDestination());
+        if (!matcher.matches()) {
+            return;
+        }
+        UUID userId = UUID.fromString(matcher.group(1));
+        subscriptionsBySession.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), userId);
+        subscriptionsByUser.compute(userId, (id, subscriptions) -> {
+            Set<String> updated = subscriptions == null ? new HashSet<>() : subscriptions;
+            updated.add(accessor.getSessionId() + "/" + accessor.getSubscriptionId());
+            return updated;
+        });
+    }
+
+    /**
+     * Forgets a subscription that the client ended.
+     */
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, UUID> subscriptions = accessor.getSessionId() == null ? null
+                : subscriptionsBySession.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        UUID userId = subscriptions.remove(accessor.getSubscriptionId());
+        if (userId != null) {
+            remove(userId, accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+    }
+
+    /**
+     * Forgets all subscriptions of a closed session.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, UUID> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, userId) -> remove(userId, event.getSessionId(), subscriptionId));
+        }
+    }
+
+    private void remove(UUID userId, String sessionId, String subscriptionId) {
+        subscriptionsByUser.computeIfPresent(userId, (id, subscriptions) -> {
+            subscriptions.remove(sessionId + "/" + subscriptionId);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+}
@@ -0,0 +1,314 @@
+package tech.project.schedule.services.delivery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tech.project.schedule.dto.notification.NotificationDTO;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps the Server-Sent Events notification streams open on this node.
+ * A stream is an asynchronous request that holds no thread while idle, so a node can keep many
+ * of them open. Every event carries a JSON array of notifications, like a WebSocket frame, and
+ * the sequence number of its newest notification as the event ID, from which a reconnecting
+ * client resumes with the {@code Last-Event-ID} header. While the missed notifications are
+ * replayed to a resumed stream, live notifications for it are held back, so that its events
+ * arrive in sequence order. Idle streams receive a comment every
+ * heartbeat interval, which keeps proxies from closing them and reveals dead connections.
+ *
+ * <p>Writing to a stream blocks until the client accepts the data, so live events and heartbeats
+ * are put in the stream's bounded outbox and written by a small pool of platform threads,
+ * one thread per stream at a time. The threads queuing events never block on a client.
+ * A stream whose outbox overflows is completed with an error; its client reconnects
+ * and resumes from its last event.</p>
+ */
+@Component
+@Slf4j
+public class NotificationStreamRegistry {
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final Map<UUID, Map<SseEmitter, Outbox>> streamsByUser = new ConcurrentHashMap<>();
+    // Streams receiving a replay -> live notifications held back until the replay has been sent
+    private final Map<SseEmitter, List<List<NotificationDTO>>> held = new ConcurrentHashMap<>();
+    private final ExecutorService writers;
+    private final ObjectWriter writer;
+    private final Duration timeout;
+    private final int outboxCapacity;
+    private final Counter overflows;
+
+    public NotificationStreamRegistry(ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${notifications.stream.timeout:PT30M}") Duration timeout,
+                                      @Value("${notifications.stream.outbox-capacity:32}") int outboxCapacity,
+                                      @Value("${notifications.stream.writer-threads:4}") int writerThreads) {
+        this.writer = objectMapper.writerFor(new TypeReference<List<NotificationDTO>>() {
+        });
+        this.timeout = timeout;
+        this.outboxCapacity = outboxCapacity;
+        this.writers = Executors.newFixedThreadPool(writerThreads,
+                Thread.ofPlatform().name("notification-stream-", 0).daemon(true).factory());
+        Gauge.builder("notifications.stream.open", streamsByUser,
+                        streams -> streams.values().stream().mapToInt(Map::size).sum())
+                .description("Open Server-Sent Events notification streams")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("notifications.stream.overflows")
+                .description("Notification streams closed because their client fell too far behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for a user. The stream is closed after the configured timeout,
+     * and the client then reconnects and resumes from the last event it received.
+     *
+     * @param userId ID of the user
+     * @param replay Whether missed notifications are replayed to the stream first; live
+     *               notifications are then held back until {@link #endReplay} is called
+     * @return The emitter of the new stream
+     */
+    public SseEmitter open(UUID userId, boolean replay) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        if (replay) {
+            held.put(emitter, new ArrayList<>());
+        }
+        streamsByUser.computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+                .put(emitter, new Outbox(userId, emitter));
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(userId, emitter));
+        return emitter;
+    }
+
+    /**
+     * Returns whether the user has a stream open on this node.
+     *
+     * @param userId ID of the user
+     * @return True if at least one stream is open
+     */
+    public boolean hasStreams(UUID userId) {
+        return streamsByUser.containsKey(userId);
+    }
+
+    /**
+     * Queues notifications to every stream of a user. Never blocks on a client.
+     *
+     * @param userId ID of the user
+     * @param notifications The notifications
+     * @param json The notifications already serialized as a JSON array
+     */
+    public void send(UUID userId, List<NotificationDTO> notifications, String json) {
+        Map<SseEmitter, Outbox> streams = streamsByUser.get(userId);
+        if (streams == null) {
+            return;
+        }
+        String eventId = eventId(notifications);
+        streams.forEach((emitter, outbox) -> {
+            if (!hold(emitter, notifications)) {
+                outbox.offer(SseEmitter.event().id(eventId).data(json));
+            }
+        });
+    }
+
+    /**
+     * Ends the replay to a stream. The live notifications held back meanwhile are sent,
+     * except the ones the replay already contained, and later ones are sent directly again.
+     *
+     * @param userId ID of the stream's user
+     * @param emitter The stream
+     * @param lastReplayed Sequence number of the last notification the replay sent, or that
+     *                     the client had received if the replay sent none
+     */
+    public void endReplay(UUID userId, SseEmitter emitter, long lastReplayed) {
+        long last = lastReplayed;
+        List<List<NotificationDTO>> backlog = takeHeld(emitter);
+        // Notifications held back while the backlog is sent are taken in the next round
+        while (!backlog.isEmpty()) {
+            for (List<NotificationDTO> notifications : backlog) {
+                long after = last;
+                List<NotificationDTO> missed = notifications.stream()
+                        .filter(notification -> notification.seq() > after)
+                        .toList();
+                if (!missed.isEmpty()) {
+                    send(userId, emitter, missed);
+                    last = missed.stream().mapToLong(NotificationDTO::seq).max().orElseThrow();
+                }
+            }
+            backlog = takeHeld(emitter);
+        }
+    }
+
+    /**
+     * Sends notifications to a single stream, e.g. the ones it missed before it was opened.
+     * Meant for streams that have not been returned to the client yet: their events are buffered
+     * rather than written, so the calling thread does not block.
+     *
+     * @param userId ID of the stream's user
+     * @param emitter The stream
+     * @param notifications The notifications
+     */
+    public void send(UUID userId, SseEmitter emitter, List<NotificationDTO> notifications) {
+        try {
+            send(userId, emitter, eventId(notifications), writer.writeValueAsString(notifications));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize {} notifications for user {}: {}", notifications.size(), userId,
+                    e.getMessage());
+        }
+    }
+
+    private boolean hold(SseEmitter emitter, List<NotificationDTO> notifications) {
+        return held.computeIfPresent(emitter, (e, backlog) -> {
+            backlog.add(notifications);
+            return backlog;
+        }) != null;
+    }
+
+    /**
+     * Takes the notifications held back for a stream; once none are left, stops holding them back.
+     */
+    private List<List<NotificationDTO>> takeHeld(SseEmitter emitter) {
+        List<List<NotificationDTO>> taken = new ArrayList<>();
+        held.computeIfPresent(emitter, (e, backlog) -> {
+            if (backlog.isEmpty()) {
+                return null;
+            }
+            taken.addAll(backlog);
+            backlog.clear();
+            return backlog;
+        });
+        return taken;
+    }
+
+    private static String eventId(List<NotificationDTO> notifications) {
+        return String.valueOf(notifications.stream().mapToLong(NotificationDTO::seq).max().orElseThrow());
+    }
+
+    private void send(UUID userId, SseEmitter emitter, String eventId, String json) {
+        write(userId, emitter, SseEmitter.event().id(eventId).data(json));
+    }
+
+    private boolean write(UUID userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; it resumes from its last event when it reconnects
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Queues a heartbeat comment to every open stream with nothing waiting to be written.
+     */
+    @Scheduled(fixedDelayString = "${notifications.stream.heartbeat-interval:25000}")
+    public void sendHeartbeats() {
+        streamsByUser.values().forEach(streams -> streams.values().forEach(Outbox::offerHeartbeat));
+    }
+
+    /**
+     * Stops the writer threads.
+     */
+    @PreDestroy
+    public void stop() {
+        writers.shutdownNow();
+    }
+
+    private void remove(UUID userId, SseEmitter emitter) {
+        held.remove(emitter);
+        streamsByUser.computeIfPresent(userId, (id, streams) -> {
+            Outbox outbox = streams.remove(emitter);
+            if (outbox != null) {
+                outbox.close();
+            }
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    /**
+     * Events waiting to be written to one stream. A writer thread is only taken while there are
+     * events, and it drains them in order before releasing the outbox.
+     */
+    private final class Outbox {
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final Deque<SseEmitter.SseEventBuilder> events = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Outbox(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (events.size() < outboxCapacity) {
+                    events.add(event);
+                    if (!draining) {
+                        draining = true;
+                        writers.execute(this::drain);
+                    }
+                    return;
+                }
+            }
+            overflows.increment();
+            log.debug("Closing notification stream of user {}, its outbox is full", userId);
+            remove(userId, emitter);
+            emitter.completeWithError(new IOException("Notification stream outbox is full"));
+        }
+
+        void offerHeartbeat() {
+            synchronized (this) {
+                if (draining || closed) {
+                    return;
+                }
+            }
+            offer(SseEmitter.event().comment(HEARTBEAT));
+        }
+
+        synchronized void close() {
+            closed = true;
+            events.clear();
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = closed ? null : events.poll();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                if (!write(userId, emitter, event)) {
+                    return;
+                }
+            }
+        }
+    }
+}
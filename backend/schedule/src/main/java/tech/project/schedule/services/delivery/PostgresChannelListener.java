@@ -0,0 +1,101 @@
+package tech.project.schedule.services.delivery;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Base class of the components that listen on a PostgreSQL notification channel.
+ * A virtual thread holds one dedicated connection subscribed to the channel and passes what arrives
+ * to {@link #handle}, reconnecting after a delay whenever the connection fails. Notifications sent
+ * while the listener is reconnecting are missed.
+ */
+@Slf4j
+public abstract class PostgresChannelListener {
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final DataSource dataSource;
+    private final String channel;
+    private Thread listener;
+    private volatile boolean running;
+
+    protected PostgresChannelListener(DataSource dataSource, String channel) {
+        this.dataSource = dataSource;
+        this.channel = channel;
+    }
+
+    /**
+     * Starts listening on the channel.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        listener = Thread.ofVirtual().name(channel + "-listener").start(this::listen);
+    }
+
+    /**
+     * Stops listening and releases the listener connection.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (!listener.join(SHUTDOWN_TIMEOUT)) {
+            listener.interrupt();
+        }
+    }
+
+    /**
+     * Handles the notifications received in one poll of the channel.
+     *
+     * @param received The notifications, in the order they were sent
+     */
+    protected abstract void handle(PGNotification[] received);
+
+    /**
+     * Called whenever the listener has subscribed to the channel, initially and after every reconnect.
+     * Subclasses that cannot afford to miss notifications resynchronize their state here.
+     */
+    protected void onListening() {
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening on channel {}", channel);
+                onListening();
+                while (running) {
+                    PGNotification[] received = pgConnection.getNotifications((int) POLL_TIMEOUT.toMillis());
+                    if (received != null && received.length > 0) {
+                        handle(received);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Listener on channel {} failed, reconnecting in {}: {}", channel, RECONNECT_DELAY,
+                        e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package tech.project.schedule.services.delivery;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tech.project.schedule.model.notification.Notification;
+import tech.project.schedule.repositories.NotificationRepository;
+import tech.project.schedule.services.NotificationService;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delivery bus for several nodes sharing one PostgreSQL database.
+ * Publishing sends one {@code NOTIFY} per notification on the {@value #CHANNEL} channel, with
+ * {@code <user ID>:<notification ID>} as the payload. Every node, including the publishing one,
+ * listens on the channel through a dedicated connection, loads the notifications of users with
+ * a session connected to it and pushes them to those sessions.
+ *
+ * <p>Notifications published while a node is reconnecting its listener are not pushed by that node;
+ * its users see them on the next fetch.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "notifications.delivery.bus", havingValue = "postgres")
+@Slf4j
+public class PostgresNotificationDeliveryBus extends PostgresChannelListener implements NotificationDeliveryBus {
+    static final String CHANNEL = "notification_delivery";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
+    private final NotificationSessionRegistry sessionRegistry;
+
+    public PostgresNotificationDeliveryBus(JdbcTemplate jdbcTemplate,
+                                           DataSource dataSource,
+                                           NotificationRepository notificationRepository,
+                                           NotificationService notificationService,
+                                           NotificationSessionRegistry sessionRegistry) {
+        super(dataSource, CHANNEL);
+        this.jdbcTemplate = jdbcTemplate;
+        this.notificationRepository = notificationRepository;
+        this.notificationService = notificationService;
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    /**
+     * Announces the notifications to all nodes with a single statement.
+     *
+     * @param notifications The stored notifications
+     */
+    @Override
+    public void publish(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        String[] payloads = notifications.stream()
+                .map(notification -> notification.getUser().getId() + ":" + notification.getId())
+                .toArray(String[]::new);
+        jdbcTemplate.query("select pg_notify(?, payload) from unnest(?::text[]) as payload", statement -> {
+            statement.setString(1, CHANNEL);
+            statement.setArray(2, statement.getConnection().createArrayOf("text", payloads));
+        }, row -> {
+        });
+    }
+
+    /**
+     * Pushes the announced notifications whose recipients have a session on this node.
+     * The notifications are loaded with one query; the others are skipped without touching the database.
+     */
+    @Override
+    protected void handle(PGNotification[] received) {
+        List<UUID> ids = new ArrayList<>();
+        for (PGNotification notification : received) {
+            String payload = notification.getParameter();
+            int separator = payload.indexOf(':');
+            if (separator < 0) {
+                continue;
+            }
+            try {
+                if (sessionRegistry.isSubscribed(UUID.fromString(payload.substring(0, separator)))) {
+                    ids.add(UUID.fromString(payload.substring(separator + 1)));
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed notification delivery {}", payload);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        for (Notification notification : notificationRepository.findAllById(ids)) {
+            try {
+                notificationService.sendNotification(notification.getUser().getId(), notification);
+            } catch (RuntimeException e) {
+                // The notification is stored; the user will see it on the next fetch
+                log.warn("Failed to push notification {}: {}", notification.getId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package tech.project.schedule.services.events;
+
+import java.util.UUID;
+
+/**
+ * Published when tasks of a project are deleted and the cached dependency graphs of the project
+ * become stale. Listeners use it to drop the graph from other nodes' caches.
+ *
+ * @param projectId ID of the project
+ * @param version Dependency version of the change; graphs cached at this version or before are stale
+ */
+public record DependencyGraphInvalidatedEvent(UUID projectId, long version) {
+}
@@ -0,0 +1,27 @@
+package tech.project.schedule.services.events;
+
+import tech.project.schedule.model.enums.NotificationStatus;
+import tech.project.schedule.model.notification.NotificationContent;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published when the same notification should be sent to one or more users.
+ * The notifications are stored and delivered only after the publishing transaction commits.
+ *
+ * @param recipientIds IDs of the users to notify
+ * @param status The type of notification
+ * @param content The template and parameters of the notification
+ * @param subjectId ID of the entity the notification is about, or null; requests with a subject
+ *                  are coalesced with other requests for the same recipient, status and subject
+ * @param count Number of events this request stands for
+ */
+public record NotificationRequestedEvent(List<UUID> recipientIds, NotificationStatus status, NotificationContent content,
+                                         UUID subjectId, int count) {
+
+    public NotificationRequestedEvent(List<UUID> recipientIds, NotificationStatus status, NotificationContent content,
+                                      UUID subjectId) {
+        this(recipientIds, status, content, subjectId, 1);
+    }
+}
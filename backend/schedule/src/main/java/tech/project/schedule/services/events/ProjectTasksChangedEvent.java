@@ -0,0 +1,12 @@
+package tech.project.schedule.services.events;
+
+import java.util.UUID;
+
+/**
+ * Published whenever tasks of a project, their dates or their dependencies change.
+ * Listeners use it to drop data derived from the project's task network.
+ *
+ * @param projectId ID of the affected project
+ */
+public record ProjectTasksChangedEvent(UUID projectId) {
+}
@@ -0,0 +1,13 @@
+package tech.project.schedule.services.events;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a user's status, role or password changes and the cached authentication
+ * data of the user becomes stale. Listeners use it to evict the user from other nodes' caches.
+ *
+ * @param userId ID of the changed user
+ * @param email Email address of the changed user
+ */
+public record UserCacheEvictedEvent(UUID userId, String email) {
+}
@@ -0,0 +1,367 @@
+package tech.project.schedule.services.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory dependency graph of the tasks of one project.
+ * Tasks are mapped to dense int indices and edges are kept in growable int arrays,
+ * so the graph stays compact and traversals never touch JPA entities.
+ *
+ * <p>An edge points from a prerequisite to the task that depends on it. The graph maintains
+ * a topological order of its nodes and keeps it valid on every insertion using the
+ * Pearce–Kelly online algorithm: only the nodes whose order lies between the two endpoints
+ * of the new edge are visited, and an insertion that would close a cycle is rejected.</p>
+ *
+ * <p>Instances are not thread-safe; callers must make sure one thread uses a graph at a time.</p>
+ */
+public final class DependencyGraph {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int[] NO_EDGES = new int[0];
+
+    private final Map<UUID, Integer> indexById = new HashMap<>();
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private int[] order = new int[INITIAL_CAPACITY];
+    private int[][] successors = new int[INITIAL_CAPACITY][];
+    private int[] successorCount = new int[INITIAL_CAPACITY];
+    private int[][] predecessors = new int[INITIAL_CAPACITY][];
+    private int[] predecessorCount = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // Scratch state of a single insertion, reused to avoid allocations
+    private boolean[] visited = new boolean[INITIAL_CAPACITY];
+    private int[] parent = new int[INITIAL_CAPACITY];
+
+    /**
+     * Builds a graph from a project's tasks and dependency edges.
+     * Edges that would close a cycle in already stored data are skipped and returned,
+     * so that a corrupted project cannot prevent the graph from being built.
+     *
+     * @param taskIds IDs of all tasks of the project
+     * @param edges Pairs of (prerequisite ID, dependent task ID)
+     * @param skipped Receives the edges that were skipped because they close a cycle
+     * @return The built graph
+     */
+    public static DependencyGraph build(Collection<UUID> taskIds, Collection<UUID[]> edges, List<UUID[]> skipped) {
+        DependencyGraph graph = new DependencyGraph();
+        for (UUID id : taskIds) {
+            graph.nodeIndex(id);
+        }
+        for (UUID[] edge : edges) {
+            graph.nodeIndex(edge[0]);
+            graph.nodeIndex(edge[1]);
+        }
+        if (!graph.assignKahnOrder(edges)) {
+            // Stored data already contains a cycle: fall back to incremental insertion
+            graph = new DependencyGraph();
+            for (UUID id : taskIds) {
+                graph.nodeIndex(id);
+            }
+            for (UUID[] edge : edges) {
+                if (!graph.addEdge(edge[0], edge[1]).isEmpty()) {
+                    skipped.add(edge);
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Adds an edge stating that {@code dependentId} cannot start before {@code prerequisiteId} is finished.
+     * Unknown tasks are added to the graph on the fly.
+     *
+     * @param prerequisiteId ID of the prerequisite task
+     * @param dependentId ID of the dependent task
+     * @return An empty list when the edge was added, otherwise the IDs along the cycle the edge
+     *         would close, starting and ending with {@code prerequisiteId}; the graph is left unchanged
+     */
+    public List<UUID> addEdge(UUID prerequisiteId, UUID dependentId) {
+        int from = nodeIndex(prerequisiteId);
+        int to = nodeIndex(dependentId);
+        if (from == to) {
+            return List.of(prerequisiteId, prerequisiteId);
+        }
+        if (order[from] < order[to]) {
+            link(from, to);
+            return List.of();
+        }
+
+        int lowerBound = order[to];
+        int upperBound = order[from];
+        int[] forward = collectForward(to, from, upperBound);
+        if (forward == null) {
+            return cyclePath(from, to);
+        }
+        int[] backward = collectBackward(from, lowerBound);
+        reorder(backward, forward);
+        link(from, to);
+        return List.of();
+    }
+
+    /**
+     * Removes an edge between two tasks. Removing an edge never invalidates the topological order.
+     *
+     * @param prerequisiteId ID of the prerequisite task
+     * @param dependentId ID of the dependent task
+     */
+    public void removeEdge(UUID prerequisiteId, UUID dependentId) {
+        Integer from = indexById.get(prerequisiteId);
+        Integer to = indexById.get(dependentId);
+        if (from == null || to == null) {
+            return;
+        }
+        successorCount[from] = removeValue(successors[from], successorCount[from], to);
+        predecessorCount[to] = removeValue(predecessors[to], predecessorCount[to], from);
+    }
+
+    /**
+     * Returns the number of tasks in the graph.
+     *
+     * @return The node count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of a task, registering it as a new isolated node if needed.
+     * A new node is placed at the end of the topological order, which is always valid
+     * for a node without edges.
+     */
+    private int nodeIndex(UUID id) {
+        Integer existing = indexById.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        ensureCapacity(size + 1);
+        int index = size++;
+        ids[index] = id;
+        order[index] = index;
+        successors[index] = NO_EDGES;
+        predecessors[index] = NO_EDGES;
+        indexById.put(id, index);
+        return index;
+    }
+
+    /**
+     * Assigns the initial topological order with Kahn's algorithm.
+     *
+     * @return false when the edges contain a cycle
+     */
+    private boolean assignKahnOrder(Collection<UUID[]> edges) {
+        for (UUID[] edge : edges) {
+            link(indexById.get(edge[0]), indexById.get(edge[1]));
+        }
+        int[] inDegree = Arrays.copyOf(predecessorCount, size);
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int node = 0; node < size; node++) {
+            if (inDegree[node] == 0) {
+                queue[tail++] = node;
+            }
+        }
+        while (head < tail) {
+            int node = queue[head];
+            order[node] = head++;
+            for (int i = 0; i < successorCount[node]; i++) {
+                int next = successors[node][i];
+                if (--inDegree[next] == 0) {
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return tail == size;
+    }
+
+    /**
+     * Collects the nodes reachable from {@code start} whose order does not exceed {@code upperBound}.
+     *
+     * @return The collected nodes, or null when {@code target} is reachable, i.e. the new edge closes a cycle
+     */
+    private int[] collectForward(int start, int target, int upperBound) {
+        IntStack stack = new IntStack();
+        IntStack reached = new IntStack();
+        visited[start] = true;
+        parent[start] = -1;
+        stack.push(start);
+        reached.push(start);
+        boolean cycle = false;
+        while (!stack.isEmpty() && !cycle) {
+            int node = stack.pop();
+            for (int i = 0; i < successorCount[node]; i++) {
+                int next = successors[node][i];
+                if (next == target) {
+                    parent[target] = node;
+                    cycle = true;
+                    break;
+                }
+                if (!visited[next] && order[next] < upperBound) {
+                    visited[next] = true;
+                    parent[next] = node;
+                    stack.push(next);
+                    reached.push(next);
+                }
+            }
+        }
+        if (cycle) {
+            // Keep parent links for cyclePath, which clears the visited flags
+            return null;
+        }
+        int[] nodes = reached.toArray();
+        for (int node : nodes) {
+            visited[node] = false;
+        }
+        return nodes;
+    }
+
+    /**
+     * Collects the nodes from which {@code start} is reachable and whose order is not below {@code lowerBound}.
+     */
+    private int[] collectBackward(int start, int lowerBound) {
+        IntStack stack = new IntStack();
+        IntStack reached = new IntStack();
+        visited[start] = true;
+        stack.push(start);
+        reached.push(start);
+        while (!stack.isEmpty()) {
+            int node = stack.pop();
+            for (int i = 0; i < predecessorCount[node]; i++) {
+                int previous = predecessors[node][i];
+                if (!visited[previous] && order[previous] > lowerBound) {
+                    visited[previous] = true;
+                    stack.push(previous);
+                    reached.push(previous);
+                }
+            }
+        }
+        int[] nodes = reached.toArray();
+        for (int node : nodes) {
+            visited[node] = false;
+        }
+        return nodes;
+    }
+
+    /**
+     * Reassigns the order positions of the affected region so that every node that reaches
+     * the prerequisite precedes every node reachable from the dependent task.
+     */
+    private void reorder(int[] backward, int[] forward) {
+        sortByOrder(backward);
+        sortByOrder(forward);
+        int[] slots = new int[backward.length + forward.length];
+        int k = 0;
+        for (int node : backward) {
+            slots[k++] = order[node];
+        }
+        for (int node : forward) {
+            slots[k++] = order[node];
+        }
+        Arrays.sort(slots);
+        k = 0;
+        for (int node : backward) {
+            order[node] = slots[k++];
+        }
+        for (int node : forward) {
+            order[node] = slots[k++];
+        }
+    }
+
+    /**
+     * Reconstructs the cycle found by {@link #collectForward} from its parent links.
+     */
+    private List<UUID> cyclePath(int from, int to) {
+        List<UUID> path = new ArrayList<>();
+        for (int node = from; node != -1; node = parent[node]) {
+            path.add(ids[node]);
+            if (node == to) {
+                break;
+            }
+        }
+        // The walk went backwards from the prerequisite to the dependent task; close the loop
+        Collections.reverse(path);
+        path.add(0, ids[from]);
+        Arrays.fill(visited, 0, size, false);
+        return path;
+    }
+
+    private void sortByOrder(int[] nodes) {
+        // Sort node indices by their order position; regions are small, so boxing is not worth avoiding
+        long[] keyed = new long[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            keyed[i] = ((long) order[nodes[i]] << 32) | nodes[i];
+        }
+        Arrays.sort(keyed);
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = (int) keyed[i];
+        }
+    }
+
+    private void link(int from, int to) {
+        successors[from] = append(successors[from], successorCount[from]++, to);
+        predecessors[to] = append(predecessors[to], predecessorCount[to]++, from);
+    }
+
+    private static int[] append(int[] values, int count, int value) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, Math.max(4, count * 2));
+        }
+        values[count] = value;
+        return values;
+    }
+
+    private static int removeValue(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                values[i] = values[count - 1];
+                return count - 1;
+            }
+        }
+        return count;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        order = Arrays.copyOf(order, capacity);
+        successors = Arrays.copyOf(successors, capacity);
+        successorCount = Arrays.copyOf(successorCount, capacity);
+        predecessors = Arrays.copyOf(predecessors, capacity);
+        predecessorCount = Arrays.copyOf(predecessorCount, capacity);
+        visited = Arrays.copyOf(visited, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+    }
+
+    /**
+     * Minimal growable stack of primitive ints.
+     */
+    private static final class IntStack {
+        private int[] values = new int[16];
+        private int count;
+
+        void push(int value) {
+            values = append(values, count++, value);
+        }
+
+        int pop() {
+            return values[--count];
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, count);
+        }
+    }
+}
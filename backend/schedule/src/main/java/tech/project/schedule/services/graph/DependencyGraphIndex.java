@@ -0,0 +1,183 @@
+package tech.project.schedule.services.graph;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.project.schedule.exception.ApiException;
+import tech.project.schedule.model.project.ProjectDependencyState;
+import tech.project.schedule.repositories.ProjectDependencyStateRepository;
+import tech.project.schedule.repositories.TaskDependencyRepository;
+import tech.project.schedule.repositories.TaskRepository;
+import tech.project.schedule.repositories.projections.TaskLinkView;
+import tech.project.schedule.services.events.DependencyGraphInvalidatedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps one {@link DependencyGraph} per project and uses it to reject dependency cycles.
+ * A change to a project's dependencies starts with {@link #lockProject}, which serializes the
+ * changes of the project across all nodes through its {@link ProjectDependencyState} row and
+ * makes sure the cached graph matches the committed dependencies, reloading it from the database
+ * when the version it was cached at is not the latest one. The change then updates the graph in
+ * place; when its transaction rolls back the graph is dropped and reloaded by the next change.
+ * When tasks are deleted the graph is dropped on every node.
+ */
+@Component
+@RequiredArgsConstructor
+public class DependencyGraphIndex {
+    private static final Logger log = LoggerFactory.getLogger(DependencyGraphIndex.class);
+    private static final int MAX_REPORTED_CYCLE_LENGTH = 50;
+
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final ProjectDependencyStateRepository stateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<UUID, CachedGraph> graphs = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a change to a project's dependencies. Advances the project's dependency version,
+     * which locks it until the end of the transaction, then brings the cached graph up to date.
+     * Must be called before the transaction locks any task, so that it cannot deadlock with
+     * the task locks of a concurrent change.
+     *
+     * @param projectId ID of the project
+     * @return The dependency version of this change
+     */
+    public long lockProject(UUID projectId) {
+        long version = stateRepository.advanceVersion(projectId);
+        CachedGraph cached = graphs.get(projectId);
+        // Any other version means another transaction or node has changed the dependencies since
+        DependencyGraph graph = cached != null && cached.version() == version - 1 ? cached.graph() : load(projectId);
+        graphs.put(projectId, new CachedGraph(graph, version));
+        invalidateOnRollback(projectId, graph);
+        return version;
+    }
+
+    /**
+     * Records a new dependency in the project's graph.
+     * The change must have been started with {@link #lockProject}.
+     *
+     * @param projectId ID of the project both tasks belong to
+     * @param taskId ID of the dependent task
+     * @param prerequisiteId ID of the prerequisite task
+     * @throws ApiException with status 409 if the dependency would create a cycle
+     */
+    public void addDependency(UUID projectId, UUID taskId, UUID prerequisiteId) {
+        List<UUID> cycle = lockedGraph(projectId).addEdge(prerequisiteId, taskId);
+        if (!cycle.isEmpty()) {
+            throw new ApiException("Dependency would create a cycle: " + describe(cycle), HttpStatus.CONFLICT);
+        }
+    }
+
+    /**
+     * Removes a dependency from the project's graph.
+     * The change must have been started with {@link #lockProject}.
+     *
+     * @param projectId ID of the project both tasks belong to
+     * @param taskId ID of the dependent task
+     * @param prerequisiteId ID of the prerequisite task
+     */
+    public void removeDependency(UUID projectId, UUID taskId, UUID prerequisiteId) {
+        lockedGraph(projectId).removeEdge(prerequisiteId, taskId);
+    }
+
+    /**
+     * Drops the graph of a project on every node after its tasks were deleted.
+     * The deletion must have been started with {@link #lockProject}.
+     *
+     * @param projectId ID of the project
+     * @param version The dependency version returned by {@link #lockProject}
+     */
+    public void invalidate(UUID projectId, long version) {
+        invalidateLocally(projectId, version);
+        eventPublisher.publishEvent(new DependencyGraphInvalidatedEvent(projectId, version));
+    }
+
+    /**
+     * Drops the graph and the dependency version of a deleted project on every node.
+     *
+     * @param projectId ID of the project
+     */
+    public void forget(UUID projectId) {
+        stateRepository.deleteById(projectId);
+        invalidate(projectId, Long.MAX_VALUE);
+    }
+
+    /**
+     * Drops the graph of a project from this node's cache if it was cached at the given version
+     * or before. A graph a newer change is working on is kept.
+     *
+     * @param projectId ID of the project
+     * @param version The dependency version of the change that made the graph stale
+     */
+    public void invalidateLocally(UUID projectId, long version) {
+        graphs.computeIfPresent(projectId, (id, cached) -> cached.version() <= version ? null : cached);
+    }
+
+    /**
+     * Formats a cycle as an arrow-separated path, eliding the middle of very long cycles.
+     */
+    private static String describe(List<UUID> cycle) {
+        if (cycle.size() <= MAX_REPORTED_CYCLE_LENGTH) {
+            return cycle.stream().map(UUID::toString).collect(Collectors.joining(" -> "));
+        }
+        int half = MAX_REPORTED_CYCLE_LENGTH / 2;
+        return cycle.subList(0, half).stream().map(UUID::toString).collect(Collectors.joining(" -> "))
+                + " -> ... (" + (cycle.size() - 2 * half) + " more) -> "
+                + cycle.subList(cycle.size() - half, cycle.size()).stream().map(UUID::toString)
+                .collect(Collectors.joining(" -> "));
+    }
+
+    private DependencyGraph lockedGraph(UUID projectId) {
+        CachedGraph cached = graphs.get(projectId);
+        if (cached == null) {
+            throw new IllegalStateException("Dependency change of project " + projectId + " was not started");
+        }
+        return cached.graph();
+    }
+
+    private DependencyGraph load(UUID projectId) {
+        List<UUID[]> edges = new ArrayList<>();
+        for (TaskLinkView link : taskDependencyRepository.findProjectPrerequisiteLinks(projectId)) {
+            edges.add(new UUID[]{link.getLinkedId(), link.getTaskId()});
+        }
+        List<UUID[]> skipped = new ArrayList<>();
+        DependencyGraph loaded = DependencyGraph.build(taskRepository.findIdsByProjectId(projectId), edges, skipped);
+        if (!skipped.isEmpty()) {
+            log.warn("Project {} already contains {} cyclic task dependencies", projectId, skipped.size());
+        }
+        return loaded;
+    }
+
+    /**
+     * Makes sure in-memory changes do not outlive a rolled back transaction.
+     */
+    private void invalidateOnRollback(UUID projectId, DependencyGraph graph) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    // The next change of the project may already have replaced the graph
+                    graphs.computeIfPresent(projectId, (id, cached) -> cached.graph() == graph ? null : cached);
+                }
+            }
+        });
+    }
+
+    private record CachedGraph(DependencyGraph graph, long version) {
+    }
+}
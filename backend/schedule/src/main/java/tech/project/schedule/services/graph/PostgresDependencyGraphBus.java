@@ -0,0 +1,75 @@
+package tech.project.schedule.services.graph;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tech.project.schedule.services.delivery.PostgresChannelListener;
+import tech.project.schedule.services.events.DependencyGraphInvalidatedEvent;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * Drops the dependency graphs of projects whose tasks were deleted from the caches of all nodes
+ * sharing one PostgreSQL database. Every invalidation is announced with a {@code NOTIFY} on the
+ * {@value #CHANNEL} channel, with {@code <project ID>:<dependency version>} as the payload,
+ * in the transaction that deletes the tasks.
+ *
+ * <p>Nodes do not rely on these announcements to reject cycles: a node whose graph is
+ * stale reloads it when the next change of the project sees a newer dependency version.
+ * They only keep nodes from holding on to graphs that are no longer current.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "notifications.delivery.bus", havingValue = "postgres")
+@Slf4j
+public class PostgresDependencyGraphBus extends PostgresChannelListener {
+    static final String CHANNEL = "dependency_graph_invalidation";
+    // Length of the project ID at the start of the payload
+    private static final int ID_LENGTH = 36;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DependencyGraphIndex dependencyGraphIndex;
+
+    public PostgresDependencyGraphBus(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                      DependencyGraphIndex dependencyGraphIndex) {
+        super(dataSource, CHANNEL);
+        this.jdbcTemplate = jdbcTemplate;
+        this.dependencyGraphIndex = dependencyGraphIndex;
+    }
+
+    /**
+     * Announces an invalidation to all nodes.
+     */
+    @EventListener
+    public void onDependencyGraphInvalidated(DependencyGraphInvalidatedEvent event) {
+        String payload = event.projectId() + ":" + event.version();
+        jdbcTemplate.query("select pg_notify(?, ?)", statement -> {
+            statement.setString(1, CHANNEL);
+            statement.setString(2, payload);
+        }, row -> {
+        });
+    }
+
+    /**
+     * Drops the announced graphs from this node's cache.
+     */
+    @Override
+    protected void handle(PGNotification[] received) {
+        for (PGNotification notification : received) {
+            String payload = notification.getParameter();
+            if (payload.length() <= ID_LENGTH || payload.charAt(ID_LENGTH) != ':') {
+                log.warn("Ignoring malformed dependency graph invalidation {}", payload);
+                continue;
+            }
+            try {
+                dependencyGraphIndex.invalidateLocally(UUID.fromString(payload.substring(0, ID_LENGTH)),
+                        Long.parseLong(payload.substring(ID_LENGTH + 1)));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed dependency graph invalidation {}", payload);
+            }
+        }
+    }
+}
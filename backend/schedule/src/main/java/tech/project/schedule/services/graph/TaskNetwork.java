@@ -0,0 +1,189 @@
+package tech.project.schedule.services.graph;
+
+import tech.project.schedule.repositories.projections.TaskScheduleRowView;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a project's tasks, their dates and their dependencies.
+ * Tasks are mapped to dense int indices and edges are stored in compressed sparse row
+ * arrays in both directions, so scheduling passes run over primitive arrays only.
+ * An edge points from a prerequisite to the task that depends on it.
+ */
+public final class TaskNetwork {
+    private final UUID[] ids;
+    private final LocalDateTime[] startDates;
+    private final LocalDateTime[] endDates;
+    private final Map<UUID, Integer> indexById;
+    private final int[] successorOffsets;
+    private final int[] successors;
+    private final int[] predecessorOffsets;
+    private final int[] predecessors;
+
+    private TaskNetwork(UUID[] ids, LocalDateTime[] startDates, LocalDateTime[] endDates,
+                        Map<UUID, Integer> indexById, int[] edgeFrom, int[] edgeTo, int edgeCount) {
+        this.ids = ids;
+        this.startDates = startDates;
+        this.endDates = endDates;
+        this.indexById = indexById;
+        this.successorOffsets = new int[ids.length + 1];
+        this.successors = new int[edgeCount];
+        this.predecessorOffsets = new int[ids.length + 1];
+        this.predecessors = new int[edgeCount];
+        fillCsr(edgeFrom, edgeTo, edgeCount, successorOffsets, successors);
+        fillCsr(edgeTo, edgeFrom, edgeCount, predecessorOffsets, predecessors);
+    }
+
+    /**
+     * Builds the network from the rows of {@code TaskRepository.findScheduleRows}.
+     * Prerequisites outside the row set (e.g. in another project) are ignored.
+     *
+     * @param rows One row per (task, prerequisite) pair
+     * @return The task network
+     */
+    public static TaskNetwork fromRows(List<TaskScheduleRowView> rows) {
+        Map<UUID, Integer> indexById = new HashMap<>();
+        UUID[] ids = new UUID[rows.size()];
+        LocalDateTime[] startDates = new LocalDateTime[rows.size()];
+        LocalDateTime[] endDates = new LocalDateTime[rows.size()];
+        int size = 0;
+        for (TaskScheduleRowView row : rows) {
+            if (!indexById.containsKey(row.getTaskId())) {
+                indexById.put(row.getTaskId(), size);
+                ids[size] = row.getTaskId();
+                startDates[size] = row.getStartDate();
+                endDates[size] = row.getEndDate();
+                size++;
+            }
+        }
+
+        int[] edgeFrom = new int[rows.size()];
+        int[] edgeTo = new int[rows.size()];
+        int edgeCount = 0;
+        for (TaskScheduleRowView row : rows) {
+            Integer prerequisite = row.getPrerequisiteId() == null ? null : indexById.get(row.getPrerequisiteId());
+            if (prerequisite != null) {
+                edgeFrom[edgeCount] = prerequisite;
+                edgeTo[edgeCount] = indexById.get(row.getTaskId());
+                edgeCount++;
+            }
+        }
+        return new TaskNetwork(Arrays.copyOf(ids, size), Arrays.copyOf(startDates, size),
+                Arrays.copyOf(endDates, size), indexById, edgeFrom, edgeTo, edgeCount);
+    }
+
+    /**
+     * Computes a topological order of the tasks with Kahn's algorithm.
+     *
+     * @return Task indices with every prerequisite before its dependents,
+     *         or null if the dependencies contain a cycle
+     */
+    public int[] topologicalOrder() {
+        int size = ids.length;
+        int[] inDegree = new int[size];
+        for (int node = 0; node < size; node++) {
+            inDegree[node] = predecessorOffsets[node + 1] - predecessorOffsets[node];
+        }
+        int[] queue = new int[size];
+        int tail = 0;
+        for (int node = 0; node < size; node++) {
+            if (inDegree[node] == 0) {
+                queue[tail++] = node;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int node = queue[head];
+            for (int i = successorOffsets[node]; i < successorOffsets[node + 1]; i++) {
+                if (--inDegree[successors[i]] == 0) {
+                    queue[tail++] = successors[i];
+                }
+            }
+        }
+        return tail == size ? queue : null;
+    }
+
+    /**
+     * Returns the number of tasks in the network.
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the ID of the task at the given index.
+     */
+    public UUID id(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Returns the index of a task, or -1 if the task is not part of the network.
+     */
+    public int indexOf(UUID id) {
+        return indexById.getOrDefault(id, -1);
+    }
+
+    /**
+     * Returns the planned start date of the task at the given index.
+     */
+    public LocalDateTime startDate(int index) {
+        return startDates[index];
+    }
+
+    /**
+     * Returns the planned end date of the task at the given index, or null if it has none.
+     */
+    public LocalDateTime endDate(int index) {
+        return endDates[index];
+    }
+
+    /**
+     * Successors of task {@code index} are {@link #successorAt} positions
+     * from {@code successorStart(index)} inclusive to {@code successorEnd(index)} exclusive.
+     */
+    public int successorStart(int index) {
+        return successorOffsets[index];
+    }
+
+    public int successorEnd(int index) {
+        return successorOffsets[index + 1];
+    }
+
+    public int successorAt(int position) {
+        return successors[position];
+    }
+
+    /**
+     * Predecessors of task {@code index} are {@link #predecessorAt} positions
+     * from {@code predecessorStart(index)} inclusive to {@code predecessorEnd(index)} exclusive.
+     */
+    public int predecessorStart(int index) {
+        return predecessorOffsets[index];
+    }
+
+    public int predecessorEnd(int index) {
+        return predecessorOffsets[index + 1];
+    }
+
+    public int predecessorAt(int position) {
+        return predecessors[position];
+    }
+
+    private static void fillCsr(int[] from, int[] to, int edgeCount, int[] offsets, int[] targets) {
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[from[i] + 1]++;
+        }
+        for (int node = 0; node < offsets.length - 1; node++) {
+            offsets[node + 1] += offsets[node];
+        }
+        int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int i = 0; i < edgeCount; i++) {
+            targets[cursor[from[i]]++] = to[i];
+        }
+    }
+}
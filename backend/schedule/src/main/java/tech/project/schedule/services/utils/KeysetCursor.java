@@ -0,0 +1,56 @@
+package tech.project.schedule.services.utils;
+
+import org.springframework.http.HttpStatus;
+import tech.project.schedule.exception.ApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in a keyset-paginated listing ordered by (timestamp, id).
+ * The cursor is exchanged with clients as a URL-safe Base64 string so that
+ * its format can change without breaking the API contract.
+ *
+ * @param timestamp The ordering timestamp of the last returned row
+ * @param id The identifier of the last returned row, used as a tie-breaker
+ */
+public record KeysetCursor(LocalDateTime timestamp, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encodes this cursor into its opaque string form.
+     *
+     * @return The URL-safe representation of the cursor
+     */
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor The opaque cursor string, may be null or blank for the first page
+     * @return The decoded cursor, or null when no cursor was supplied
+     * @throws ApiException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ApiException("Invalid cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -3,27 +3,76 @@ package tech.project.schedule.services.utils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import tech.project.schedule.model.enums.NotificationStatus;
+import tech.project.schedule.model.notification.NotificationContent;
+import tech.project.schedule.model.project.Project;
+import tech.project.schedule.model.task.Task;
 import tech.project.schedule.model.user.User;
 import tech.project.schedule.services.NotificationService;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Helper class for creating and sending notifications across the application.
- * Provides standardized notification messages for various actions and events.
+ * Provides standardized notification messages for various actions and events. Messages are
+ * stored as a template ID and a snapshot of the names they mention and are rendered by
+ * {@link NotificationTemplates} when read; task and project templates are named after the status.
+ * Notifications are only requested here; they are stored and delivered asynchronously
+ * by {@link tech.project.schedule.services.NotificationDispatcher} once the caller's transaction commits.
  */
 @Component
 @RequiredArgsConstructor
 public class NotificationHelper {
     private final NotificationService notificationService;
+    private final NotificationTemplates templates;
 
     /**
      * Sends a generic notification to a user.
      *
      * @param recipient The user to receive the notification
      * @param status    The type of notification
-     * @param message   The notification message content
+     * @param content   The template and parameters of the notification
+     */
+    public void notifyUser(User recipient, NotificationStatus status, NotificationContent content) {
+        notifyUser(recipient, status, content, null);
+    }
+
+    /**
+     * Sends a notification about an entity to a user. Repeated notifications with the same
+     * status about the same entity are coalesced into one.
+     *
+     * @param recipient The user to receive the notification
+     * @param status    The type of notification
+     * @param content   The template and parameters of the notification
+     * @param subjectId ID of the entity the notification is about
      */
-    public void notifyUser(User recipient, NotificationStatus status, String message) {
-        notificationService.sendNotificationToUser(recipient.getId(), status, message);
+    public void notifyUser(User recipient, NotificationStatus status, NotificationContent content, UUID subjectId) {
+        notificationService.sendToUsers(List.of(recipient.getId()), status, content, subjectId);
+    }
+
+    /**
+     * Sends the same notification to many users as a single fan-out.
+     *
+     * @param recipients The users to receive the notification
+     * @param status     The type of notification
+     * @param content    The template and parameters of the notification
+     */
+    public void notifyUsers(Collection<User> recipients, NotificationStatus status, NotificationContent content) {
+        notifyUsers(recipients, status, content, null);
+    }
+
+    /**
+     * Sends the same notification about an entity to many users as a single fan-out.
+     *
+     * @param recipients The users to receive the notification
+     * @param status     The type of notification
+     * @param content    The template and parameters of the notification
+     * @param subjectId  ID of the entity the notification is about
+     */
+    public void notifyUsers(Collection<User> recipients, NotificationStatus status, NotificationContent content,
+                            UUID subjectId) {
+        notificationService.sendToUsers(recipients.stream().map(User::getId).toList(), status, content, subjectId);
     }
 
     /**
@@ -31,42 +80,54 @@ public class NotificationHelper {
      *
      * @param assignee The task assignee to notify
      * @param status   The type of notification
-     * @param taskName The name of the task
+     * @param task     The task the notification is about
      */
-    public void notifyTaskAssignee(User assignee, NotificationStatus status, String taskName) {
-        String message = switch (status) {
-            case TASK_ASSIGNEE_ADDED -> "Zostałeś dodany do zadania " + taskName;
-            case TASK_UPDATED -> "Zadanie " + taskName + " zostało zaktualizowane";
-            case TASK_COMPLETED -> "Zadanie " + taskName + " zostało oznaczone jako zakończone";
-            case TASK_DELETED -> "Zadanie " + taskName + " zostało usunięte";
-            case TASK_COMMENT_ADDED -> "Dodano nowy komentarz do zadania " + taskName;
-            case TASK_COMMENT_UPDATED -> "Zaktualizowano komentarz w zadaniu " + taskName;
-            case TASK_COMMENT_DELETED -> "Usunięto komentarz z zadania " + taskName;
-            case TASK_DEPENDENCY_ADDED -> "Dodano nową zależność do zadania " + taskName;
-            case TASK_DEPENDENCY_DELETED -> "Usunięto zależność z zadania " + taskName;
-            case TASK_DEPENDENCY_UPDATED -> "Zaktualizowano zależność w zadaniu " + taskName;
-            default -> "Nastąpiła zmiana w zadaniu " + taskName;
-        };
+    public void notifyTaskAssignee(User assignee, NotificationStatus status, Task task) {
+        notifyUser(assignee, status, taskContent(status, task.getName()), task.getId());
+    }
 
-        notifyUser(assignee, status, message);
+    /**
+     * Sends a notification about a task to many of its assignees at once.
+     *
+     * @param assignees The task assignees to notify
+     * @param status    The type of notification
+     * @param task      The task the notification is about
+     */
+    public void notifyTaskAssignees(Collection<User> assignees, NotificationStatus status, Task task) {
+        notifyUsers(assignees, status, taskContent(status, task.getName()), task.getId());
     }
 
     /**
      * Notifies a project member about project changes with predefined message formats.
      *
-     * @param member      The project member to notify
-     * @param status      The type of notification
-     * @param projectName The name of the project
+     * @param member  The project member to notify
+     * @param status  The type of notification
+     * @param project The project the notification is about
      */
-    public void notifyProjectMember(User member, NotificationStatus status, String projectName) {
-        String message = switch (status) {
-            case PROJECT_MEMBER_ADDED -> "Zostałeś dodany do projektu " + projectName;
-            case PROJECT_UPDATED -> "Projekt " + projectName + " został zaktualizowany";
-            case PROJECT_DELETED -> "Projekt " + projectName + " został usunięty";
-            case PROJECT_CREATED -> "Stworzono projekt: " + projectName + " pomyślnie";
-            default -> "Nastąpiła zmiana w projekcie " + projectName;
-        };
+    public void notifyProjectMember(User member, NotificationStatus status, Project project) {
+        notifyUser(member, status, projectContent(status, project.getName()), project.getId());
+    }
+
+    /**
+     * Notifies many project members about project changes at once.
+     *
+     * @param members The project members to notify
+     * @param status  The type of notification
+     * @param project The project the notification is about
+     */
+    public void notifyProjectMembers(Collection<User> members, NotificationStatus status, Project project) {
+        notifyUsers(members, status, projectContent(status, project.getName()), project.getId());
+    }
+
+    private NotificationContent taskContent(NotificationStatus status, String taskName) {
+        String template = status.name().startsWith("TASK_") && templates.contains(status.name())
+                ? status.name() : "TASK_CHANGED";
+        return NotificationContent.of(template, "task", taskName);
+    }
 
-        notifyUser(member, status, message);
+    private NotificationContent projectContent(NotificationStatus status, String projectName) {
+        String template = status.name().startsWith("PROJECT_") && templates.contains(status.name())
+                ? status.name() : "PROJECT_CHANGED";
+        return NotificationContent.of(template, "project", projectName);
     }
 }
@@ -0,0 +1,159 @@
+package tech.project.schedule.services.utils;
+
+import org.springframework.stereotype.Component;
+import tech.project.schedule.model.enums.NotificationStatus;
+import tech.project.schedule.model.notification.NotificationContent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+/**
+ * Registry of notification message templates.
+ * Templates are read from the {@code notifications/templates} resource bundles once at startup and
+ * compiled into literal and placeholder segments, so rendering a notification is a single pass that
+ * appends strings. Placeholders are written as {@code {name}} and filled from the parameters of
+ * the notification. Polish is the default language; other languages fall back to it for missing keys.
+ */
+@Component
+public class NotificationTemplates {
+    private static final String BUNDLE = "notifications/templates";
+    private static final List<Locale> SUPPORTED_LOCALES = List.of(Locale.of("pl"), Locale.of("en"));
+    private static final String DIGEST = "DIGEST";
+    private static final String DIGEST_LINE_COUNT = "DIGEST.count";
+    private static final String DIGEST_SEPARATOR = "; ";
+
+    private final Map<String, Map<String, CompiledTemplate>> templatesByLanguage = new HashMap<>();
+    private final Map<String, CompiledTemplate> defaultTemplates;
+
+    public NotificationTemplates() {
+        for (Locale locale : SUPPORTED_LOCALES) {
+            ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE, locale,
+                    ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES));
+            Map<String, CompiledTemplate> templates = new HashMap<>();
+            for (String key : bundle.keySet()) {
+                templates.put(key, CompiledTemplate.compile(bundle.getString(key)));
+            }
+            templatesByLanguage.put(locale.getLanguage(), Map.copyOf(templates));
+        }
+        defaultTemplates = templatesByLanguage.get(SUPPORTED_LOCALES.get(0).getLanguage());
+    }
+
+    /**
+     * Returns whether a template with the given ID exists.
+     *
+     * @param template ID of the template
+     * @return True if the default bundle defines the template
+     */
+    public boolean contains(String template) {
+        return defaultTemplates.containsKey(template);
+    }
+
+    /**
+     * Renders notification content in the given language.
+     *
+     * @param content The content to render
+     * @param locale The reader's locale; unsupported languages get the default one
+     * @return The rendered message
+     */
+    public String render(NotificationContent content, Locale locale) {
+        return render(content.template(), content.params(), locale);
+    }
+
+    /**
+     * Renders a stored notification in the given language.
+     * A notification whose template is named after its status stores no template; notifications
+     * stored before templates were introduced have no template either and keep their message.
+     *
+     * @param status The type of the notification
+     * @param template ID of the template, or null if it is derived from the status
+     * @param params Parameters of the template
+     * @param message The stored message of a notification without a template
+     * @param locale The reader's locale; unsupported languages get the default one
+     * @return The rendered message
+     */
+    public String render(NotificationStatus status, String template, Map<String, Object> params, String message,
+                         Locale locale) {
+        if (template == null && message != null) {
+            return message;
+        }
+        return render(template == null ? status.name() : template, params, locale);
+    }
+
+    private String render(String template, Map<String, Object> params, Locale locale) {
+        Map<String, CompiledTemplate> templates = locale == null ? defaultTemplates
+                : templatesByLanguage.getOrDefault(locale.getLanguage(), defaultTemplates);
+        Map<String, Object> values = params == null ? Map.of() : params;
+        if (DIGEST.equals(template)) {
+            values = new HashMap<>(values);
+            values.put("lines", renderDigestLines(values.get("lines"), templates));
+        }
+        CompiledTemplate compiled = templates.get(template);
+        return compiled == null ? template : compiled.render(values);
+    }
+
+    /**
+     * Renders the lines of a digest, each of which is stored as the template, parameters
+     * and event count of one merged notification.
+     */
+    private String renderDigestLines(Object lines, Map<String, CompiledTemplate> templates) {
+        if (!(lines instanceof List<?> list)) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Object item : list) {
+            if (!(item instanceof Map<?, ?> line)) {
+                continue;
+            }
+            if (!builder.isEmpty()) {
+                builder.append(DIGEST_SEPARATOR);
+            }
+            CompiledTemplate compiled = templates.get(String.valueOf(line.get("template")));
+            @SuppressWarnings("unchecked")
+            Map<String, Object> lineParams = line.get("params") instanceof Map<?, ?> map
+                    ? (Map<String, Object>) map : Map.of();
+            builder.append(compiled == null ? String.valueOf(line.get("template")) : compiled.render(lineParams));
+            if (line.get("count") instanceof Number count && count.intValue() > 1) {
+                builder.append(templates.get(DIGEST_LINE_COUNT).render(Map.of("count", count)));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A template split into literal text and placeholder names. Rendering appends
+     * {@code literals[0]}, the value of {@code names[0]}, {@code literals[1]} and so on;
+     * there is always one more literal than there are placeholders.
+     */
+    private record CompiledTemplate(String[] literals, String[] names) {
+        static CompiledTemplate compile(String pattern) {
+            List<String> literals = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            int position = 0;
+            int open;
+            while ((open = pattern.indexOf('{', position)) >= 0) {
+                int close = pattern.indexOf('}', open);
+                if (close < 0) {
+                    break;
+                }
+                literals.add(pattern.substring(position, open));
+                names.add(pattern.substring(open + 1, close));
+                position = close + 1;
+            }
+            literals.add(pattern.substring(position));
+            return new CompiledTemplate(literals.toArray(String[]::new), names.toArray(String[]::new));
+        }
+
+        String render(Map<String, Object> params) {
+            StringBuilder builder = new StringBuilder(literals[0]);
+            for (int i = 0; i < names.length; i++) {
+                Object value = params.get(names[i]);
+                builder.append(value == null ? "" : value).append(literals[i + 1]);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.http.HttpStatus;
 import tech.project.schedule.exception.ApiException;
 import tech.project.schedule.model.enums.UserStatus;
 import tech.project.schedule.model.user.User;
+import tech.project.schedule.security.CurrentUser;
 
 public class UserUtils {
     /**
@@ -20,4 +21,14 @@ public class UserUtils {
             throw new ApiException("User must be authorized to perform this action", HttpStatus.FORBIDDEN);
         }
     }
+
+    /**
+     * Throws ApiException if the authenticated user is not AUTHORIZED.
+     * @param user the authenticated user to check
+     */
+    public static void assertAuthorized(CurrentUser user) {
+        if (user.userStatus() != UserStatus.AUTHORIZED) {
+            throw new ApiException("User must be authorized to perform this action", HttpStatus.FORBIDDEN);
+        }
+    }
 }
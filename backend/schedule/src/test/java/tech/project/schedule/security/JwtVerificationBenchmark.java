@@ -0,0 +1,96 @@
+package tech.project.schedule.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of authenticating a request's token, before and after claims caching.
+ * Not a unit test: it is a JMH benchmark, which surefire does not pick up.
+ *
+ * <ul>
+ *     <li>{@code uncached}: what the authentication filter did before, calling
+ *     {@link LegacyJwtUtil#extractUsername} and {@link LegacyJwtUtil#isTokenValid} on the token.</li>
+ *     <li>{@code cached}: {@link JwtUtil#verify} with a token it has verified before.</li>
+ *     <li>{@code cacheChurn}: {@link JwtUtil#verify} with more distinct tokens than the cache
+ *     holds, so every request verifies the signature and evicts an entry.</li>
+ * </ul>
+ *
+ * <p>Run from {@code backend/schedule} with:</p>
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) \
+ *     org.openjdk.jmh.Main JwtVerificationBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "ZJzN9s2EK0Hhyik9rD27PQT5nU/Nt1tNwKMVSrSGR/I=";
+    private static final long EXPIRATION_MS = 3_600_000L;
+    private static final int CACHE_SIZE = 10_000;
+
+    private LegacyJwtUtil legacyJwtUtil;
+    private JwtUtil jwtUtil;
+    private String token;
+    private String[] tokens;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        legacyJwtUtil = new LegacyJwtUtil();
+        ReflectionTestUtils.setField(legacyJwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(legacyJwtUtil, "expirationMs", EXPIRATION_MS);
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expirationMs", EXPIRATION_MS);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", CACHE_SIZE);
+        jwtUtil.init();
+
+        token = jwtUtil.generateToken("a@x.io", Map.of("userId", "11111111-1111-1111-1111-111111111111"));
+        tokens = new String[CACHE_SIZE * 2];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = jwtUtil.generateToken("user" + i + "@x.io", Map.of("userId", String.valueOf(i)));
+        }
+    }
+
+    @Benchmark
+    public void uncached(Blackhole blackhole) {
+        blackhole.consume(legacyJwtUtil.extractUsername(token));
+        blackhole.consume(legacyJwtUtil.isTokenValid(token));
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        Claims claims = jwtUtil.verify(token);
+        blackhole.consume(claims.getSubject());
+        blackhole.consume(claims.getExpiration());
+    }
+
+    @Benchmark
+    public void cacheChurn(Blackhole blackhole) {
+        // Continues across iterations, so the cache stays full once warmed up
+        Claims claims = jwtUtil.verify(tokens[cursor++ % tokens.length]);
+        blackhole.consume(claims.getSubject());
+        blackhole.consume(claims.getExpiration());
+    }
+}
@@ -33,6 +33,7 @@ export class NotificationCenterComponent implements OnInit, OnDestroy {
   
   notifications: Notification[] = [];
   unreadCount: number = 0;
+  nextCursor: string | null = null;
   isLoading: boolean = false;
 
   ngOnInit(): void {
@@ -50,6 +51,13 @@ export class NotificationCenterComponent implements OnInit, OnDestroy {
       )
     );
     
+    // Subscribe to the cursor of the next page
+    this.subscriptions.push(
+      this.notificationService.nextCursor$.subscribe(
+        cursor => this.nextCursor = cursor
+      )
+    );
+    
     // Load notifications initially
     this.loadNotifications();
   }
@@ -75,6 +83,28 @@ export class NotificationCenterComponent implements OnInit, OnDestroy {
     });
   }
   
+  /**
+   * Loads the next page of notifications
+   */
+  loadMore(event: Event): void {
+    event.stopPropagation(); // Prevent menu from closing
+    
+    if (!this.nextCursor || this.isLoading) {
+      return;
+    }
+    
+    this.isLoading = true;
+    this.notificationService.loadMoreNotifications().subscribe({
+      next: () => {
+        this.isLoading = false;
+      },
+      error: (error) => {
+        console.error('Error loading more notifications:', error);
+        this.isLoading = false;
+      }
+    });
+  }
+  
   /**
    * Marks a single notification as read
    */
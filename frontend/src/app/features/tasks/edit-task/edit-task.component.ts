@@ -18,7 +18,7 @@ import { MatSnackBar, MatSnackBarModule } from '@angular/material/snack-bar';
 import { MatTabsModule } from '@angular/material/tabs';
 import { MatDividerModule } from '@angular/material/divider';
 import { TaskService } from '../../../shared/services/task.service';
-import { Task, TaskUpdate, TaskAssignee } from '../../../shared/models/task.model';
+import { Task, TaskUpdate, TaskAssignee, TaskComment } from '../../../shared/models/task.model';
 import { TaskPriority } from '../../../shared/enums/task-priority.enum';
 import { TaskStatus } from '../../../shared/enums/task-status.enum';
 import { AuthService } from '../../../shared/services/auth.service';
@@ -90,6 +90,9 @@ export class EditTaskComponent implements OnInit {
   
   // For comments
   newComment: string = '';
+  comments: TaskComment[] = [];
+  commentsCursor: string | null = null;
+  loadingComments = false;
   
   // Map for user ID to name lookup
   userMap: Map<string, string> = new Map();
@@ -737,7 +740,6 @@ export class EditTaskComponent implements OnInit {
       priority: formValue.priority,
       // Use task's current values for these complex properties
       assigneeIds: this.task?.assigneeIds || [],
-      comments: this.task?.comments || [],
       files: this.task?.files || [],
       // Keep project and dependencies
       projectId: this.task?.projectId || '',
@@ -998,11 +1000,10 @@ export class EditTaskComponent implements OnInit {
     this.taskService.addComment(this.taskId, this.newComment, userId).subscribe({
       next: (comment) => {
         console.log('Successfully added comment:', comment);
-        // Update the task's comments list
-        if (!this.task!.comments) {
-          this.task!.comments = [];
+        // Show the new comment only once all older pages are loaded, to keep the list chronological
+        if (!this.commentsCursor) {
+          this.comments.push(comment);
         }
-        this.task!.comments.push(comment);
         this.newComment = ''; // Clear the input
         this.submitting = false;
         this.showSuccess('Komentarz został dodany');
@@ -1039,10 +1040,8 @@ export class EditTaskComponent implements OnInit {
     this.taskService.deleteComment(this.taskId, commentId, userId).subscribe({
       next: () => {
         console.log('Successfully deleted comment:', commentId);
-        // Remove the comment from the task's comments list
-        if (this.task?.comments) {
-          this.task.comments = this.task.comments.filter(comment => comment.id !== commentId);
-        }
+        // Remove the comment from the loaded comments list
+        this.comments = this.comments.filter(comment => comment.id !== commentId);
         this.submitting = false;
         this.showSuccess('Komentarz został usunięty');
       },
@@ -1077,10 +1076,9 @@ export class EditTaskComponent implements OnInit {
     this.taskService.deleteAllCommentsInTask(this.taskId, userId).subscribe({
       next: () => {
         console.log('Successfully deleted all comments');
-        // Clear all comments from the task
-        if (this.task) {
-          this.task.comments = [];
-        }
+        // Clear all loaded comments
+        this.comments = [];
+        this.commentsCursor = null;
         this.submitting = false;
         this.showSuccess('Wszystkie komentarze zostały usunięte');
       },
@@ -1206,11 +1204,36 @@ export class EditTaskComponent implements OnInit {
   }
   
   /**
-   * Load comments if not already included with the task.
+   * Load the first page of the task's comments.
    */
   loadComments(): void {
-    // In this implementation, comments are loaded with the task
-    // This is a placeholder in case we need separate loading in future
+    this.comments = [];
+    this.commentsCursor = null;
+    this.loadMoreComments();
+  }
+
+  /**
+   * Load the next page of the task's comments and append it to the list.
+   */
+  loadMoreComments(): void {
+    const userId = this.authService.getUserId();
+    if (!userId || this.loadingComments) {
+      return;
+    }
+
+    this.loadingComments = true;
+    this.taskService.getTaskComments(this.taskId, userId, this.commentsCursor).subscribe({
+      next: (page) => {
+        this.comments = [...this.comments, ...page.items];
+        this.commentsCursor = page.nextCursor;
+        this.loadingComments = false;
+      },
+      error: (err) => {
+        console.error('Failed to load comments:', err);
+        this.loadingComments = false;
+        this.showError(`Nie udało się załadować komentarzy: ${err.message || 'Nieznany błąd'}`);
+      }
+    });
   }
   
   /**
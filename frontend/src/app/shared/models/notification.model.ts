@@ -4,7 +4,12 @@
  */
 export interface Notification {
   id: string;          // UUID from backend
+  status: string;      // Type of the notification, e.g. PROJECT_UPDATED
   message: string;     // Notification message content
+  userId: string;      // UUID of the recipient
+  subjectId?: string;  // UUID of the entity the notification is about, if any
   createdAt: string;   // ISO timestamp string
   isRead: boolean;     // Whether notification has been read
+  count?: number;      // Number of coalesced events this notification stands for
+  seq?: number;        // Position among the user's notifications, used to resume after a reconnect
 }
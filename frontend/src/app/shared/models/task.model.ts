@@ -22,7 +22,8 @@ export interface Task {
   priority: TaskPriority;
   status: TaskStatus;
   assigneeIds?: string[];
-  comments?: TaskComment[];
+  commentCount?: number;
+  lastCommentAt?: string;
   files?: TaskFile[];
   dependencyIds?: string[];
   assignees?: TaskAssignee[];
@@ -36,6 +37,11 @@ export interface TaskComment {
   createdAt: string;
 }
 
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+}
+
 export interface TaskFile {
   id: string;
   taskId: string;
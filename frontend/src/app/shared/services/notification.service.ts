@@ -2,6 +2,7 @@ import { Injectable, inject } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable, BehaviorSubject, tap } from 'rxjs';
 import { Notification } from '../models/notification.model';
+import { CursorPage } from '../models/task.model';
 import { AuthService } from './auth.service';
 
 @Injectable({
@@ -16,29 +17,68 @@ export class NotificationService {
   // Observable sources
   private notificationsSubject = new BehaviorSubject<Notification[]>([]);
   private unreadCountSubject = new BehaviorSubject<number>(0);
+  private nextCursorSubject = new BehaviorSubject<string | null>(null);
   
   // Observable streams
   public notifications$ = this.notificationsSubject.asObservable();
   public unreadCount$ = this.unreadCountSubject.asObservable();
+  public nextCursor$ = this.nextCursorSubject.asObservable();
 
   /**
-   * Fetches all notifications for the currently authenticated user
+   * Fetches the newest page of notifications for the currently authenticated user
+   * and refreshes the unread count
    */
-  getNotifications(): Observable<Notification[]> {
+  getNotifications(): Observable<CursorPage<Notification>> {
     const userId = this.authService.getUserId();
     
     if (!userId) {
       throw new Error('User not authenticated');
     }
     
-    return this.http.get<Notification[]>(`${this.apiUrl}?userId=${userId}&authenticatedUserId=${userId}`).pipe(
-      tap(notifications => {
-        this.notificationsSubject.next(notifications);
-        this.updateUnreadCount(notifications);
+    this.refreshUnreadCount();
+    return this.http.get<CursorPage<Notification>>(`${this.apiUrl}/page?userId=${userId}`).pipe(
+      tap(page => {
+        this.notificationsSubject.next(page.items);
+        this.nextCursorSubject.next(page.nextCursor);
       })
     );
   }
 
+  /**
+   * Fetches the next page of notifications and appends it to the list
+   */
+  loadMoreNotifications(): Observable<CursorPage<Notification>> {
+    const userId = this.authService.getUserId();
+    const cursor = this.nextCursorSubject.value;
+    
+    if (!userId) {
+      throw new Error('User not authenticated');
+    }
+    
+    return this.http.get<CursorPage<Notification>>(`${this.apiUrl}/page?userId=${userId}&cursor=${cursor}`).pipe(
+      tap(page => {
+        this.notificationsSubject.next([...this.notificationsSubject.value, ...page.items]);
+        this.nextCursorSubject.next(page.nextCursor);
+      })
+    );
+  }
+
+  /**
+   * Fetches the number of unread notifications from the server-side counter
+   */
+  refreshUnreadCount(): void {
+    const userId = this.authService.getUserId();
+    
+    if (!userId) {
+      return;
+    }
+    
+    this.http.get<{ unreadCount: number }>(`${this.apiUrl}/unread-count?userId=${userId}`).subscribe({
+      next: response => this.unreadCountSubject.next(response.unreadCount),
+      error: error => console.error('Error loading unread count:', error)
+    });
+  }
+
   /**
    * Marks a specific notification as read
    */
@@ -58,25 +98,27 @@ export class NotificationService {
         );
         
         this.notificationsSubject.next(updatedNotifications);
-        this.updateUnreadCount(updatedNotifications);
+        this.refreshUnreadCount();
       })
     );
   }
 
   /**
-   * Marks all notifications as read for the current user
+   * Marks all notifications as read for the current user, up to the newest one shown,
+   * so notifications arriving in the meantime stay unread
    */
-  markAllAsRead(): Observable<Notification[]> {
+  markAllAsRead(): Observable<{ affected: number }> {
     const userId = this.authService.getUserId();
     
     if (!userId) {
       throw new Error('User not authenticated');
     }
     
-    return this.http.put<Notification[]>(`${this.apiUrl}/read-all?userId=${userId}`, {}).pipe(
-      tap(updatedNotifications => {
-        this.notificationsSubject.next(updatedNotifications);
-        this.updateUnreadCount(updatedNotifications);
+    return this.http.put<{ affected: number }>(`${this.apiUrl}/read-all?userId=${userId}${this.cutoffParam()}`, {}).pipe(
+      tap(() => {
+        const currentNotifications = this.notificationsSubject.value;
+        this.notificationsSubject.next(currentNotifications.map(notification => ({ ...notification, isRead: true })));
+        this.refreshUnreadCount();
       })
     );
   }
@@ -100,35 +142,36 @@ export class NotificationService {
         );
         
         this.notificationsSubject.next(updatedNotifications);
-        this.updateUnreadCount(updatedNotifications);
+        this.refreshUnreadCount();
       })
     );
   }
 
   /**
-   * Deletes all notifications for the current user
+   * Deletes all notifications for the current user, up to the newest one shown
    */
-  deleteAllNotifications(): Observable<string> {
+  deleteAllNotifications(): Observable<{ affected: number }> {
     const userId = this.authService.getUserId();
     
     if (!userId) {
       throw new Error('User not authenticated');
     }
     
-    return this.http.delete<string>(`${this.apiUrl}/all?userId=${userId}`).pipe(
+    return this.http.delete<{ affected: number }>(`${this.apiUrl}/all?userId=${userId}${this.cutoffParam()}`).pipe(
       tap(() => {
         // Clear all notifications
         this.notificationsSubject.next([]);
-        this.unreadCountSubject.next(0);
+        this.nextCursorSubject.next(null);
+        this.refreshUnreadCount();
       })
     );
   }
 
   /**
-   * Updates the unread notifications count
+   * Builds the cutoff query parameter from the newest notification shown, if any
    */
-  private updateUnreadCount(notifications: Notification[]): void {
-    const unreadCount = notifications.filter(notification => !notification.isRead).length;
-    this.unreadCountSubject.next(unreadCount);
+  private cutoffParam(): string {
+    const newest = this.notificationsSubject.value[0];
+    return newest ? `&before=${encodeURIComponent(newest.createdAt)}` : '';
   }
 }
@@ -2,7 +2,7 @@ import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable, catchError, tap } from 'rxjs';
 import { GoogleCalendarService } from './google-calendar.service';
-import { Task, TaskRequest, TaskUpdate, TaskComment, TaskFile, TaskAssignee } from '../models/task.model';
+import { Task, TaskRequest, TaskUpdate, TaskComment, TaskFile, TaskAssignee, CursorPage } from '../models/task.model';
 
 @Injectable({
   providedIn: 'root'
@@ -112,9 +112,15 @@ export class TaskService {
   }
 
   // Task Comments
-  getTaskComments(taskId: string, userId: string): Observable<TaskComment[]> {
-    const params = new HttpParams().set('userId', userId);
-    return this.http.get<TaskComment[]>(`${this.apiUrl}/${taskId}/comments`, { params });
+  getTaskComments(taskId: string, userId: string, after?: string | null, limit?: number): Observable<CursorPage<TaskComment>> {
+    let params = new HttpParams().set('userId', userId);
+    if (after) {
+      params = params.set('after', after);
+    }
+    if (limit) {
+      params = params.set('limit', limit);
+    }
+    return this.http.get<CursorPage<TaskComment>>(`${this.apiUrl}/${taskId}/comments`, { params });
   }
 
   addComment(taskId: string, comment: string, userId: string): Observable<TaskComment> {
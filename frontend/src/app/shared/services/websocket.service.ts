@@ -23,6 +23,11 @@ export class WebSocketService {
   private notificationSubject = new Subject<any>();
   public notifications$ = this.notificationSubject.asObservable();
 
+  // Sequence number up to which every notification was received, sent on resubscribe to get the missed ones
+  private lastSeq: number | null = null;
+  // Sequence numbers received above lastSeq; replayed and live notifications may arrive interleaved
+  private receivedSeqs = new Set<number>();
+
   constructor(@Inject(PLATFORM_ID) platformId: Object) {
     this.isBrowser = isPlatformBrowser(platformId);
   }
@@ -45,6 +50,8 @@ export class WebSocketService {
    */
   public disconnect(): void {
     this.disconnectWebSocket();
+    this.lastSeq = null;
+    this.receivedSeqs.clear();
   }
 
   /**
@@ -133,15 +140,22 @@ export class WebSocketService {
             (message: any) => {
               console.log('Received raw WebSocket message:', message);
               try {
-                const notification = JSON.parse(message.body);
-                console.log('Successfully parsed notification:', notification);
-                // Emit notification through subject
-                this.notificationSubject.next(notification);
+                const payload = JSON.parse(message.body);
+                // The server batches notifications sent within a few milliseconds into one array frame
+                const notifications = Array.isArray(payload) ? payload : [payload];
+                console.log('Successfully parsed notifications:', notifications);
+                // Emit each notification through subject, skipping ones already received
+                notifications.forEach(notification => {
+                  if (notification.seq != null && !this.acceptSeq(notification.seq)) {
+                    return;
+                  }
+                  this.notificationSubject.next(notification);
+                });
               } catch (e) {
                 console.error('Error parsing notification:', e, 'Raw message:', message);
               }
             },
-            { 'durable': false, 'auto-delete': true, 'exclusive': false }
+            this.subscribeHeaders()
           );
           
           console.log('Successfully subscribed to notifications');
@@ -180,6 +194,38 @@ export class WebSocketService {
     }
   }
 
+  /**
+   * Records the sequence number of a received notification and returns whether it is new.
+   * lastSeq only advances over a contiguous range, so a notification that is still being
+   * replayed is not skipped when a newer live one arrives first
+   */
+  private acceptSeq(seq: number): boolean {
+    if (this.lastSeq == null) {
+      // The first notification of the session starts the range
+      this.lastSeq = seq - 1;
+    }
+    if (seq <= this.lastSeq || this.receivedSeqs.has(seq)) {
+      return false;
+    }
+    this.receivedSeqs.add(seq);
+    while (this.receivedSeqs.delete(this.lastSeq + 1)) {
+      this.lastSeq++;
+    }
+    return true;
+  }
+
+  /**
+   * Headers of the notification subscription; after a reconnect they ask the server
+   * to replay the notifications sent while the connection was down
+   */
+  private subscribeHeaders(): { [key: string]: any } {
+    const headers: { [key: string]: any } = { 'durable': false, 'auto-delete': true, 'exclusive': false };
+    if (this.lastSeq != null) {
+      headers['since-seq'] = String(this.lastSeq);
+    }
+    return headers;
+  }
+
   /**
    * Disconnect WebSocket connection
    */